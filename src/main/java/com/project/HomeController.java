@@ -1,7 +1,7 @@
 package com.project;
 
 import com.project.modules.account.util.CurrentAccount;
-import com.project.modules.domain.Account;
+import com.project.modules.account.util.LoginAccount;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,9 +10,9 @@ import org.springframework.web.bind.annotation.GetMapping;
 public class HomeController {
 
     @GetMapping("/")
-    public String home(@CurrentAccount Account account, Model model) {
+    public String home(@CurrentAccount LoginAccount account, Model model) {
         if (account != null) {
-            model.addAttribute(account);
+            model.addAttribute("account", account);
         }
         return "index";
     }
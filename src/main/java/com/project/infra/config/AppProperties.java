@@ -10,4 +10,7 @@ import org.springframework.stereotype.Component;
 public class AppProperties {
 
     private String host;
+
+    /** 업로드한 이미지를 저장하는 디렉터리 */
+    private String imageDir = System.getProperty("user.home") + "/.project/images";
 }
@@ -1,6 +1,7 @@
 package com.project.infra.config;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -26,4 +27,55 @@ public class AsyncConfig implements AsyncConfigurer {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * 이미지 축소본 생성용 풀. 디코딩이 CPU 와 메모리를 많이 쓰므로 코어 수의 절반으로 제한하고,
+     * 큐가 가득 차면 받지 않는다(TaskRejectedException). 축소본이 없으면 화면은 원본 이미지를 쓰고,
+     * ImageStore 가 그 이미지를 다시 보여줄 때 축소본을 다시 만든다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor imageTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(20);
+        executor.setThreadNamePrefix("ImageExecutor-");
+        return executor;
+    }
+
+    /**
+     * SSE 알림 전송용 풀. 연결마다 큐를 따로 두고 쓰기만 여기서 하므로 스레드 수는 작게 둔다.
+     * 큐가 가득 차면 해당 연결의 이벤트는 다음 알림이나 heartbeat 때 이어서 보낸다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor notificationPushExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("NotificationPushExecutor-");
+        return executor;
+    }
+
+    /** 메일 outbox 워커용 풀. SMTP 연결 수를 늘리지 않도록 EmailOutboxWorker.WORKERS 와 같게 둔다. */
+    @Bean
+    public ThreadPoolTaskExecutor mailTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("MailExecutor-");
+        return executor;
+    }
+
+    /** 시작 시 기준 데이터 적재용 스레드. 애플리케이션이 요청을 받기 시작한 뒤에 한 번씩만 돈다. */
+    @Bean
+    public ThreadPoolTaskExecutor referenceDataExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("ReferenceDataExecutor-");
+        return executor;
+    }
 }
@@ -1,17 +1,25 @@
 package com.project.infra.config;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
+import org.springframework.security.config.annotation.authentication.configurers.provisioning.InMemoryUserDetailsManagerConfigurer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.builders.WebSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.authentication.rememberme.JdbcTokenRepositoryImpl;
 import org.springframework.security.web.authentication.rememberme.PersistentTokenRepository;
+import org.springframework.util.StringUtils;
 
 import javax.sql.DataSource;
 
@@ -28,7 +36,7 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
         http.authorizeRequests()
                 .mvcMatchers("/", "/login", "/sign-up", "/check-email-token",
                         "/email-login", "/login-by-email", "/search/study").permitAll()
-                .mvcMatchers(HttpMethod.GET, "/profile/*").permitAll()
+                .mvcMatchers(HttpMethod.GET, "/profile/*", "/image-store/**").permitAll()
                 .anyRequest().authenticated();
 
         http.formLogin()
@@ -49,6 +57,54 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
         return jdbcTokenRepository;
     }
 
+    /**
+     * actuator 엔드포인트(관리 포트). health 외에는 ADMIN 만 HTTP Basic 으로 쓸 수 있다.
+     * 관리자 계정은 app.management.username/password 로 정하고, password 는 {bcrypt}... 처럼 인코딩된 값을 넣는다.
+     * password 가 없으면 관리자 계정을 만들지 않으므로 health 외의 엔드포인트는 모두 거부된다.
+     */
+    @Order(1)
+    @Configuration
+    static class ManagementSecurityConfig extends WebSecurityConfigurerAdapter {
+
+        private final PasswordEncoder passwordEncoder;
+        private final String username;
+        private final String password;
+
+        ManagementSecurityConfig(PasswordEncoder passwordEncoder,
+                                 @Value("${app.management.username:admin}") String username,
+                                 @Value("${app.management.password:}") String password) {
+            this.passwordEncoder = passwordEncoder;
+            this.username = username;
+            this.password = password;
+        }
+
+        @Override
+        protected void configure(HttpSecurity http) throws Exception {
+            http.requestMatcher(EndpointRequest.toAnyEndpoint())
+                    .authorizeRequests()
+                    .requestMatchers(EndpointRequest.to("health")).permitAll()
+                    .anyRequest().hasRole("ADMIN");
+
+            http.httpBasic();
+
+            // 브라우저 세션을 쓰지 않는 관리용 호출이므로 CSRF 토큰만 검사하지 않는다.
+            http.csrf()
+                    .ignoringRequestMatchers(EndpointRequest.toAnyEndpoint());
+
+            http.sessionManagement()
+                    .sessionCreationPolicy(SessionCreationPolicy.STATELESS);
+        }
+
+        @Override
+        protected void configure(AuthenticationManagerBuilder auth) throws Exception {
+            InMemoryUserDetailsManagerConfigurer<AuthenticationManagerBuilder> users = auth.inMemoryAuthentication()
+                    .passwordEncoder(passwordEncoder);
+            if (StringUtils.hasText(password)) {
+                users.withUser(username).password(password).roles("ADMIN");
+            }
+        }
+    }
+
     @Override
     public void configure(WebSecurity web) throws Exception {
         web.ignoring()
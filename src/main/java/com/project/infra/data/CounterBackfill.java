@@ -0,0 +1,65 @@
+package com.project.infra.data;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+
+/**
+ * 집계 컬럼이 생기기 전의 행을 채운다. ddl-auto: update 로 컬럼이 추가되면 기존 행은 기본값 0 으로 시작하므로,
+ * 요청을 받기 전에 원래 테이블에서 다시 센다. 채울 행이 없으면 조회 한 번으로 끝난다.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class CounterBackfill {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void backfill() {
+        backfillEnrollments();
+        backfillMemberCounts();
+    }
+
+    /**
+     * 순번이 0 인(순번을 매기기 전에 신청한) 참가 신청이 있는 모임의 수락/대기 인원을 다시 세고,
+     * 그 모임의 신청 전체를 신청 시각 순으로 1 부터 다시 번호 매긴다.
+     */
+    void backfillEnrollments() {
+        Integer pending = jdbcTemplate.queryForObject(
+                "select count(*) from (select 1 from enrollment where waitlist_ordinal = 0 limit 1) e", Integer.class);
+        if (pending == null || pending == 0) {
+            return;
+        }
+        Integer events = transactionTemplate.execute(status -> {
+            int updated = jdbcTemplate.update("update event ev set"
+                    + " accepted_count = (select count(*) from enrollment e where e.event_id = ev.id and e.accepted = true),"
+                    + " waiting_count = (select count(*) from enrollment e where e.event_id = ev.id and e.accepted = false),"
+                    + " enrollment_sequence = (select count(*) from enrollment e where e.event_id = ev.id)"
+                    + " where ev.id in (select event_id from enrollment where waitlist_ordinal = 0)");
+            jdbcTemplate.update("update enrollment e set waitlist_ordinal = (select count(*) from enrollment o"
+                    + " where o.event_id = e.event_id and (o.enrolled_at < e.enrolled_at"
+                    + " or (o.enrolled_at = e.enrolled_at and o.id <= e.id)))"
+                    + " where e.event_id in (select event_id from enrollment where waitlist_ordinal = 0)");
+            return updated;
+        });
+        log.info("enrollment counters backfilled for {} events", events);
+    }
+
+    /** 멤버가 있는데 memberCount 가 0 인 스터디만 study_members 로 다시 센다. 멤버가 없는 스터디는 0 이 맞다. */
+    void backfillMemberCounts() {
+        int studies = jdbcTemplate.update("update study s set member_count ="
+                + " (select count(*) from study_members m where m.study_id = s.id)"
+                + " where s.member_count = 0 and exists (select 1 from study_members m where m.study_id = s.id)");
+        if (studies > 0) {
+            log.info("member counts backfilled for {} studies", studies);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.project.infra.data;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.enhanced.DatabaseStructure;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.PersistenceContext;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * CSV 기준 데이터를 한 줄씩 읽어 BATCH_SIZE 행씩 JDBC 배치 insert 로 넣는다.
+ * id 는 insert 문 안에서 엔티티의 시퀀스로 채우므로 행마다 시퀀스를 따로 조회하지 않는다.
+ * 시퀀스를 insert 문에 쓸 수 없는 DB 에서는 mapper 로 만든 엔티티를 같은 크기로 persist/flush 한다.
+ * 적재 시간은 로그와 reference.data.load 지표로 남긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReferenceDataLoader {
+
+    static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final MeterRegistry meterRegistry;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * resource 의 CSV 를 table 에 넣고 넣은 행 수를 반환한다. CSV 의 열 순서는 columns 와 같아야 한다.
+     */
+    @Transactional
+    public <T> int load(Resource resource, Class<T> entityClass, String table, List<String> columns,
+                        Function<String[], T> mapper) {
+        long start = System.nanoTime();
+        String idExpression = idExpression(entityClass);
+        BatchWriter writer = idExpression != null
+                ? new JdbcBatchWriter(insertSql(table, columns, idExpression))
+                : new EntityBatchWriter<>(mapper);
+
+        int count = read(resource, columns.size(), writer::add);
+        writer.flush();
+
+        long elapsed = System.nanoTime() - start;
+        meterRegistry.timer("reference.data.load", "resource", String.valueOf(resource.getFilename()))
+                .record(elapsed, TimeUnit.NANOSECONDS);
+        log.info("reference data {} loaded into {}: {} rows in {} ms", resource.getDescription(), table, count,
+                TimeUnit.NANOSECONDS.toMillis(elapsed));
+        return count;
+    }
+
+    /**
+     * resource 의 CSV 를 한 줄씩 읽어 열 수가 columnCount 인 행을 넘겨주고, 읽은 행 수를 반환한다.
+     * 클래스패스뿐 아니라 file: 위치도 읽으므로 jar 를 다시 만들지 않고 파일만 바꿔 다시 읽을 수 있다.
+     */
+    public int read(Resource resource, int columnCount, Consumer<String[]> consumer) {
+        int count = 0;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (lineNumber == 1 && line.startsWith("\uFEFF")) {
+                    line = line.substring(1);
+                }
+                if (line.isBlank()) {
+                    continue;
+                }
+                String[] fields = line.split(",", -1);
+                if (fields.length != columnCount) {
+                    throw new IllegalArgumentException(resource.getDescription() + " " + lineNumber + "번째 줄의 열 수가 "
+                            + columnCount + "개가 아닙니다.");
+                }
+                consumer.accept(fields);
+                count++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return count;
+    }
+
+    /** 엔티티 id 가 증가폭 1 인 시퀀스면 insert 문에 넣을 다음 값 표현식을, 아니면 null 을 반환한다. */
+    private String idExpression(Class<?> entityClass) {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        IdentifierGenerator generator = sessionFactory.getMetamodel().entityPersister(entityClass).getIdentifierGenerator();
+        Dialect dialect = sessionFactory.getJdbcServices().getDialect();
+        if (!(generator instanceof SequenceStyleGenerator) || !dialect.supportsSequences()) {
+            return null;
+        }
+        DatabaseStructure structure = ((SequenceStyleGenerator) generator).getDatabaseStructure();
+        if (!structure.isPhysicalSequence() || structure.getIncrementSize() != 1) {
+            return null;
+        }
+        return dialect.getSelectSequenceNextValString(structure.getName());
+    }
+
+    private static String insertSql(String table, List<String> columns, String idExpression) {
+        return "insert into " + table + " (id, " + String.join(", ", columns) + ") values (" + idExpression
+                + ", ?" + ", ?".repeat(columns.size() - 1) + ")";
+    }
+
+    private interface BatchWriter {
+
+        void add(String[] fields);
+
+        void flush();
+    }
+
+    private class JdbcBatchWriter implements BatchWriter {
+
+        private final String sql;
+        private final List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+
+        JdbcBatchWriter(String sql) {
+            this.sql = sql;
+        }
+
+        @Override
+        public void add(String[] fields) {
+            batch.add(fields);
+            if (batch.size() == BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        @Override
+        public void flush() {
+            if (!batch.isEmpty()) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private class EntityBatchWriter<T> implements BatchWriter {
+
+        private final Function<String[], T> mapper;
+        private int pending;
+
+        EntityBatchWriter(Function<String[], T> mapper) {
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void add(String[] fields) {
+            entityManager.persist(mapper.apply(fields));
+            if (++pending == BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        @Override
+        public void flush() {
+            entityManager.flush();
+            entityManager.clear();
+            pending = 0;
+        }
+    }
+}
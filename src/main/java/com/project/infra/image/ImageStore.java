@@ -0,0 +1,277 @@
+package com.project.infra.image;
+
+import com.project.infra.config.AppProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 이미지를 내용의 SHA-256 해시 이름으로 파일 시스템에 저장한다.
+ * 엔티티에는 이미지 데이터 대신 {@link #URL_PREFIX} 로 시작하는 짧은 URL 만 남긴다.
+ * 같은 이미지는 한 번만 저장되고, 저장된 파일은 바뀌지 않으므로 브라우저가 영구히 캐시할 수 있다.
+ * 원본을 저장한 뒤 {@link ImageVariant} 크기의 축소본을 imageTaskExecutor 에서 만들고,
+ * 화면은 {@link #url(String, String)} 로 축소본이 있으면 축소본을, 아직 없으면 원본을 쓴다.
+ * 풀이 가득 차 축소본 작업이 버려졌으면 url() 에서 축소본이 없는 것을 보고 원본 파일로 다시 만든다.
+ */
+@Slf4j
+@Component("imageStore")
+@RequiredArgsConstructor
+public class ImageStore {
+
+    public static final String URL_PREFIX = "/image-store/";
+
+    private static final Pattern DATA_URL = Pattern.compile("^data:(image/[a-z+.-]+);base64,(.+)$", Pattern.DOTALL);
+    private static final Pattern KEY = Pattern.compile("^([0-9a-f]{64})(-(thumbnail|card|banner))?\\.(png|jpg|gif|webp)$");
+
+    /** 디코딩할 수 있는 최대 가로/세로 픽셀. 작은 파일이 거대한 비트맵으로 풀리는 것을 막는다. */
+    private static final int MAX_DIMENSION = 4096;
+    private static final Map<String, String> EXTENSIONS = Map.of(
+            "image/png", "png",
+            "image/jpeg", "jpg",
+            "image/gif", "gif",
+            "image/webp", "webp");
+
+    private final AppProperties appProperties;
+    private final TaskExecutor imageTaskExecutor;
+
+    private final Set<String> readyVariants = ConcurrentHashMap.newKeySet();
+    /** 축소본을 만드는 중인 원본 키. 같은 이미지를 여러 화면이 동시에 보여줄 때 한 번만 만든다. */
+    private final Set<String> pendingVariants = ConcurrentHashMap.newKeySet();
+    /** 디코더가 없어 축소본을 만들 수 없는 원본 키. 다시 시도하지 않는다. */
+    private final Set<String> skippedVariants = ConcurrentHashMap.newKeySet();
+
+    /**
+     * data URL(base64) 이면 파일로 저장하고 URL 을 반환한다.
+     * 비어 있는 값과 이미 저장된 이미지의 URL 은 그대로 반환하고, 그 밖의 값(외부 URL 등)은 받지 않는다.
+     */
+    public String store(String image) {
+        if (image == null || image.isEmpty() || isStored(image)) {
+            return image;
+        }
+        Matcher matcher = DATA_URL.matcher(image);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("이미지는 업로드한 파일만 사용할 수 있습니다.");
+        }
+
+        String extension = EXTENSIONS.get(matcher.group(1));
+        if (extension == null) {
+            throw new IllegalArgumentException(matcher.group(1) + "은 지원하지 않는 이미지 형식입니다.");
+        }
+        byte[] bytes;
+        try {
+            bytes = Base64.getMimeDecoder().decode(matcher.group(2));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("이미지 데이터가 올바르지 않습니다.", e);
+        }
+
+        checkDimension(bytes);
+        String key = sha256(bytes) + "." + extension;
+        write(path(key), bytes);
+        if (!Files.exists(path(variantKey(key, ImageVariant.THUMBNAIL)))) {
+            scheduleVariants(key, () -> bytes);
+        }
+        return URL_PREFIX + key;
+    }
+
+    /** store 에 넘길 수 있는 값인지 확인한다. 비어 있는 값, 이미지 data URL, 이미 저장된 이미지의 URL 만 허용한다. */
+    public boolean isAcceptable(String image) {
+        if (image == null || image.isEmpty() || isStored(image)) {
+            return true;
+        }
+        Matcher matcher = DATA_URL.matcher(image);
+        return matcher.matches() && EXTENSIONS.containsKey(matcher.group(1));
+    }
+
+    private boolean isStored(String image) {
+        return image.startsWith(URL_PREFIX) && find(image.substring(URL_PREFIX.length())) != null;
+    }
+
+    /**
+     * 화면에 필요한 크기의 이미지 URL. 축소본이 아직 만들어지지 않았거나
+     * ImageStore 에 저장된 이미지가 아니거나 없는 크기 이름이면 원래 URL 을 그대로 반환한다.
+     */
+    public String url(String imageUrl, String variantName) {
+        if (imageUrl == null || !imageUrl.startsWith(URL_PREFIX)) {
+            return imageUrl;
+        }
+        String key = imageUrl.substring(URL_PREFIX.length());
+        Matcher matcher = KEY.matcher(key);
+        ImageVariant variant = ImageVariant.find(variantName);
+        if (!matcher.matches() || variant == null) {
+            return imageUrl;
+        }
+        String variantKey = variantKey(key, variant);
+        if (readyVariants.contains(variantKey)) {
+            return URL_PREFIX + variantKey;
+        }
+        if (Files.exists(path(variantKey))) {
+            readyVariants.add(variantKey);
+            return URL_PREFIX + variantKey;
+        }
+        if (matcher.group(2) == null && !skippedVariants.contains(key) && find(key) != null) {
+            scheduleVariants(key, () -> read(path(key)));
+        }
+        return imageUrl;
+    }
+
+    /** 저장된 이미지 파일 경로. 키 형식이 맞지 않거나 파일이 없으면 null */
+    public Path find(String key) {
+        if (key == null || !KEY.matcher(key).matches()) {
+            return null;
+        }
+        Path path = path(key);
+        return Files.isRegularFile(path) ? path : null;
+    }
+
+    public static String extensionOf(String key) {
+        return key.substring(key.lastIndexOf('.') + 1);
+    }
+
+    /** 축소본은 원본이 jpg 이면 jpg, 그 외에는 투명도를 유지하기 위해 png 로 만든다. */
+    static String variantKey(String key, ImageVariant variant) {
+        String format = "jpg".equals(extensionOf(key)) ? "jpg" : "png";
+        return key.substring(0, 64) + "-" + variant.getSuffix() + "." + format;
+    }
+
+    /** 같은 원본의 작업이 없을 때만 띄운다. 풀이 받지 않으면 다음 url() 호출 때 다시 띄운다. */
+    private void scheduleVariants(String key, Supplier<byte[]> bytes) {
+        if (!pendingVariants.add(key)) {
+            return;
+        }
+        try {
+            imageTaskExecutor.execute(() -> {
+                try {
+                    writeVariants(key, bytes.get());
+                } catch (RuntimeException e) {
+                    log.warn("failed to create image variants of {}", key, e);
+                } finally {
+                    pendingVariants.remove(key);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            pendingVariants.remove(key);
+            log.warn("image variants of {} rejected, queue is full", key);
+        }
+    }
+
+    /** 원본을 한 번만 디코딩해서 모든 크기의 축소본을 만든다. */
+    void writeVariants(String key, byte[] bytes) {
+        BufferedImage source;
+        try {
+            source = ImageIO.read(new ByteArrayInputStream(bytes));
+        } catch (IOException e) {
+            log.warn("failed to decode image {}", key, e);
+            return;
+        }
+        if (source == null) {
+            skippedVariants.add(key);
+            log.info("no decoder for image {}, variants are skipped", key);
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        for (ImageVariant variant : ImageVariant.values()) {
+            String variantKey = variantKey(key, variant);
+            String format = extensionOf(variantKey);
+            try {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                ImageIO.write(variant.resize(source, "jpg".equals(format)), format, out);
+                write(path(variantKey), out.toByteArray());
+                readyVariants.add(variantKey);
+            } catch (IOException | UncheckedIOException e) {
+                log.warn("failed to write image variant {}", variantKey, e);
+            }
+        }
+        log.info("image variants of {} created in {}ms", key, System.currentTimeMillis() - start);
+    }
+
+    private void checkDimension(byte[] bytes) {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                if (reader.getWidth(0) > MAX_DIMENSION || reader.getHeight(0) > MAX_DIMENSION) {
+                    throw new IllegalArgumentException("이미지는 " + MAX_DIMENSION + "x" + MAX_DIMENSION + " 보다 클 수 없습니다.");
+                }
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("이미지 데이터가 올바르지 않습니다.", e);
+        }
+    }
+
+    /** 한 디렉터리에 파일이 몰리지 않도록 해시 앞 두 글자로 디렉터리를 나눈다. */
+    private Path path(String key) {
+        return Paths.get(appProperties.getImageDir(), key.substring(0, 2), key);
+    }
+
+    private static byte[] read(Path path) {
+        try {
+            return Files.readAllBytes(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void write(Path path, byte[] bytes) {
+        if (Files.exists(path)) {
+            return;
+        }
+        try {
+            Files.createDirectories(path.getParent());
+            Path temp = Files.createTempFile(path.getParent(), "upload-", ".tmp");
+            try {
+                Files.write(temp, bytes);
+                Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            log.info("stored image {} ({} bytes)", path.getFileName(), bytes.length);
+        } catch (IOException e) {
+            throw new UncheckedIOException("이미지를 저장하지 못했습니다.", e);
+        }
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
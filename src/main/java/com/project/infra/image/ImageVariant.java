@@ -0,0 +1,78 @@
+package com.project.infra.image;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Locale;
+
+/**
+ * 화면에 맞춰 미리 만들어 두는 이미지 크기.
+ * 원본 비율을 유지한 채 최대 너비/높이 안에 들어가도록 줄이고, 원본보다 크게 늘리지는 않는다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariant {
+
+    /** 목록, 네비게이션, 모임 참가자에 쓰는 아바타 */
+    THUMBNAIL("thumbnail", 64, 64),
+
+    /** 스터디 목록 카드 */
+    CARD("card", 400, 400),
+
+    /** 스터디 상단 배너 */
+    BANNER("banner", 1300, 200);
+
+    private final String suffix;
+    private final int maxWidth;
+    private final int maxHeight;
+
+    /** 화면에서 쓰는 이름(thumbnail, card, banner)으로 찾는다. 기본 로케일과 무관하게 비교하고, 없는 이름이면 null */
+    public static ImageVariant find(String name) {
+        if (name == null) {
+            return null;
+        }
+        String suffix = name.toLowerCase(Locale.ROOT);
+        for (ImageVariant variant : values()) {
+            if (variant.suffix.equals(suffix)) {
+                return variant;
+            }
+        }
+        return null;
+    }
+
+    BufferedImage resize(BufferedImage source, boolean opaque) {
+        double scale = Math.min(1.0, Math.min((double) maxWidth / source.getWidth(), (double) maxHeight / source.getHeight()));
+        int targetWidth = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        // 한 번에 크게 줄이면 bilinear 보간에서 계단 현상이 생기므로 절반씩 줄인다.
+        BufferedImage image = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            image = draw(image, width, height, opaque);
+        } while (width != targetWidth || height != targetHeight);
+        return image;
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height, boolean opaque) {
+        BufferedImage target = new BufferedImage(width, height, opaque ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            if (opaque) {
+                graphics.setColor(Color.WHITE);
+                graphics.fillRect(0, 0, width, height);
+            }
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+}
@@ -0,0 +1,115 @@
+package com.project.infra.image;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 프로필/배너 이미지를 @Lob 컬럼에 data URL 그대로 담던 시절의 행을 ImageStore 로 옮기고 URL 로 바꾼다.
+ * PostgreSQL 은 @Lob 문자열을 large object 로 저장하고 컬럼에는 OID 만 남기므로 lo_get 으로 원래 값을 읽는다.
+ * 요청을 받기 전에 끝나도록 빈 초기화 때 돌고, 옮길 행이 없으면 테이블마다 조회 한 번으로 끝난다.
+ * 저장할 수 없는 값(외부 URL, 깨진 데이터)은 비운다.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class LegacyImageMigration {
+
+    private static final int CHUNK_SIZE = 100;
+    private static final Pattern OID = Pattern.compile("^\\d+$");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ImageStore imageStore;
+
+    @PostConstruct
+    public void migrate() {
+        boolean postgres = isPostgres();
+        migrate("account", "profile_image", postgres);
+        migrate("study", "image", postgres);
+    }
+
+    void migrate(String table, String column, boolean postgres) {
+        String select = "select id, " + column + " from " + table + " where " + column + " is not null and "
+                + column + " <> '' and " + column + " not like '" + ImageStore.URL_PREFIX + "%' and id > ? order by id"
+                + " limit " + CHUNK_SIZE;
+        String update = "update " + table + " set " + column + " = ? where id = ?";
+
+        long lastId = 0;
+        int migrated = 0;
+        int cleared = 0;
+        while (true) {
+            List<LegacyImage> images = jdbcTemplate.query(select,
+                    (rs, rowNum) -> new LegacyImage(rs.getLong(1), rs.getString(2)), lastId);
+            if (images.isEmpty()) {
+                break;
+            }
+            for (LegacyImage image : images) {
+                Long oid = postgres && OID.matcher(image.value).matches() ? Long.valueOf(image.value) : null;
+                String url = store(table, image, oid);
+                jdbcTemplate.update(update, url, image.id);
+                if (oid != null) {
+                    unlink(oid);
+                }
+                if (url == null) {
+                    cleared++;
+                } else {
+                    migrated++;
+                }
+                lastId = image.id;
+            }
+        }
+        if (migrated + cleared > 0) {
+            log.info("legacy {}.{} migrated to image store: {} moved, {} cleared", table, column, migrated, cleared);
+        }
+    }
+
+    private String store(String table, LegacyImage image, Long oid) {
+        try {
+            String value = image.value;
+            if (oid != null) {
+                byte[] bytes = jdbcTemplate.queryForObject("select lo_get(cast(? as oid))", byte[].class, oid);
+                value = bytes == null ? null : new String(bytes, StandardCharsets.UTF_8);
+            }
+            return imageStore.store(value);
+        } catch (IllegalArgumentException | DataAccessException e) {
+            log.warn("legacy image of {} {} could not be migrated, clearing it", table, image.id, e);
+            return null;
+        }
+    }
+
+    /** 컬럼을 URL 로 바꾼 뒤에 large object 를 지운다. */
+    private void unlink(long oid) {
+        try {
+            jdbcTemplate.queryForObject("select lo_unlink(cast(? as oid))", Integer.class, oid);
+        } catch (DataAccessException e) {
+            log.warn("failed to unlink large object {}", oid, e);
+        }
+    }
+
+    private boolean isPostgres() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        return "PostgreSQL".equalsIgnoreCase(product);
+    }
+
+    private static class LegacyImage {
+
+        private final long id;
+        private final String value;
+
+        LegacyImage(long id, String value) {
+            this.id = id;
+            this.value = value;
+        }
+    }
+}
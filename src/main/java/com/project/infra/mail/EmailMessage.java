@@ -13,4 +13,6 @@ public class EmailMessage {
 
     private String message;
 
+    private EmailType type;
+
 }
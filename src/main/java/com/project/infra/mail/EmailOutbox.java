@@ -0,0 +1,50 @@
+package com.project.infra.mail;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/** outbox 행의 상태 전이. 각 메서드가 짧은 트랜잭션 하나이고, SMTP 전송은 트랜잭션 밖에서 한다. */
+@Component
+@Transactional
+@RequiredArgsConstructor
+public class EmailOutbox {
+
+    static final int MAX_ATTEMPTS = 6;
+    static final long BASE_DELAY_SECONDS = 30;
+    static final long MAX_DELAY_SECONDS = 60 * 60;
+    static final Duration CLAIM_TIMEOUT = Duration.ofMinutes(5);
+
+    private final OutboundEmailRepository outboundEmailRepository;
+
+    public List<OutboundEmail> claim(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboundEmail> claimed = outboundEmailRepository.findClaimable(OutboundEmail.Status.PENDING, now,
+                OutboundEmail.Status.SENDING, now.minus(CLAIM_TIMEOUT), PageRequest.of(0, batchSize));
+        claimed.forEach(outboundEmail -> outboundEmail.claim(now));
+        return claimed;
+    }
+
+    /** 전송 결과를 반영하고, 반영된 행을 반환한다. */
+    public List<OutboundEmail> complete(List<OutboundEmail> claimed, Map<Long, Exception> failures) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = claimed.stream().map(OutboundEmail::getId).collect(Collectors.toList());
+        List<OutboundEmail> completed = outboundEmailRepository.findAllById(ids);
+        completed.forEach(outboundEmail -> {
+            Exception failure = failures.get(outboundEmail.getId());
+            if (failure == null) {
+                outboundEmail.sent(now);
+            } else {
+                outboundEmail.failed(failure.getMessage(), now, MAX_ATTEMPTS, BASE_DELAY_SECONDS, MAX_DELAY_SECONDS);
+            }
+        });
+        return completed;
+    }
+}
@@ -0,0 +1,127 @@
+package com.project.infra.mail;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * outbox 를 비우는 워커.
+ * 주기마다 최대 WORKERS 개의 작업을 띄우고, 각 작업은 BATCH_SIZE 건씩 가져와(SKIP LOCKED) 한 SMTP 연결로 보낸다.
+ * 실패한 메일은 지수적으로 늦춰 다시 시도하고, EmailOutbox.MAX_ATTEMPTS 번 실패하면 DEAD 로 남긴다.
+ * 지표: mail.transport(배치 전송 시간), mail.delivery(요청부터 전송까지, type 별),
+ * mail.failures / mail.dead(type 별 실패, 포기 건수).
+ */
+@Slf4j
+@Component
+public class EmailOutboxWorker {
+
+    static final int BATCH_SIZE = 50;
+    static final int WORKERS = 2;
+
+    private final EmailOutbox emailOutbox;
+    private final EmailTransport emailTransport;
+    private final TaskExecutor mailTaskExecutor;
+    private final MeterRegistry meterRegistry;
+    private final Timer transportTimer;
+    private final boolean pollEnabled;
+    private final AtomicInteger running = new AtomicInteger();
+
+    public EmailOutboxWorker(EmailOutbox emailOutbox, EmailTransport emailTransport,
+                             @Qualifier("mailTaskExecutor") TaskExecutor mailTaskExecutor, MeterRegistry meterRegistry,
+                             @Value("${app.mail.poll-enabled:true}") boolean pollEnabled) {
+        this.emailOutbox = emailOutbox;
+        this.emailTransport = emailTransport;
+        this.mailTaskExecutor = mailTaskExecutor;
+        this.meterRegistry = meterRegistry;
+        this.pollEnabled = pollEnabled;
+        this.transportTimer = Timer.builder("mail.transport")
+                .description("한 배치를 EmailTransport 로 보내는 데 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    /** app.mail.poll-enabled 가 false 면(테스트) 주기 작업은 아무것도 하지 않고 drain() 을 직접 호출해야 한다. */
+    @Scheduled(fixedDelayString = "${app.mail.poll-interval:1000}")
+    public void poll() {
+        if (!pollEnabled) {
+            return;
+        }
+        while (running.get() < WORKERS) {
+            running.incrementAndGet();
+            try {
+                mailTaskExecutor.execute(this::drainSafely);
+            } catch (RuntimeException e) {
+                running.decrementAndGet();
+                return;
+            }
+        }
+    }
+
+    private void drainSafely() {
+        try {
+            while (drain() == BATCH_SIZE) {
+                // 가득 찬 배치를 가져왔으면 더 남아 있을 수 있으므로 계속 비운다.
+            }
+        } catch (RuntimeException e) {
+            log.error("email outbox worker failed", e);
+        } finally {
+            running.decrementAndGet();
+        }
+    }
+
+    /** 한 배치를 보내고 가져온 건수를 반환한다. */
+    public int drain() {
+        List<OutboundEmail> claimed = emailOutbox.claim(BATCH_SIZE);
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+
+        Map<EmailMessage, OutboundEmail> byMessage = new IdentityHashMap<>();
+        claimed.forEach(outboundEmail -> byMessage.put(outboundEmail.toEmailMessage(), outboundEmail));
+        Map<EmailMessage, Exception> failures;
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            failures = emailTransport.send(List.copyOf(byMessage.keySet()));
+        } catch (RuntimeException e) {
+            failures = byMessage.keySet().stream().collect(Collectors.toMap(message -> message, message -> e,
+                    (a, b) -> a, IdentityHashMap::new));
+        } finally {
+            sample.stop(transportTimer);
+        }
+
+        Map<Long, Exception> failedIds = new HashMap<>();
+        failures.forEach((message, exception) -> failedIds.put(byMessage.get(message).getId(), exception));
+        emailOutbox.complete(claimed, failedIds).forEach(this::record);
+        if (!failedIds.isEmpty()) {
+            log.warn("{} of {} emails failed, will retry", failedIds.size(), claimed.size());
+        }
+        return claimed.size();
+    }
+
+    private void record(OutboundEmail outboundEmail) {
+        String type = outboundEmail.getType() == null ? "UNKNOWN" : outboundEmail.getType().name();
+        if (outboundEmail.getStatus() == OutboundEmail.Status.SENT) {
+            meterRegistry.timer("mail.delivery", "type", type)
+                    .record(Duration.between(outboundEmail.getCreatedAt(), LocalDateTime.now()));
+            return;
+        }
+        Counter.builder("mail.failures").tag("type", type).register(meterRegistry).increment();
+        if (outboundEmail.getStatus() == OutboundEmail.Status.DEAD) {
+            Counter.builder("mail.dead").tag("type", type).register(meterRegistry).increment();
+        }
+    }
+}
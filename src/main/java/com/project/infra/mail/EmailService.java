@@ -1,5 +1,6 @@
 package com.project.infra.mail;
 
+/** 메일 발송 요청. 구현체는 호출한 트랜잭션 안에서 outbox 에 넣기만 하고, 실제 전송은 EmailTransport 가 한다. */
 public interface EmailService {
 
     void send(EmailMessage emailMessage);
@@ -0,0 +1,14 @@
+package com.project.infra.mail;
+
+import java.util.List;
+import java.util.Map;
+
+/** 메일을 실제로 내보내는 방법. EmailOutboxWorker 만 사용한다. */
+public interface EmailTransport {
+
+    /**
+     * 여러 통을 한 연결로 보낸다.
+     * 보내지 못한 메일과 그 원인을 반환하고, 모두 보냈으면 빈 Map 을 반환한다.
+     */
+    Map<EmailMessage, Exception> send(List<EmailMessage> emailMessages);
+}
@@ -0,0 +1,7 @@
+package com.project.infra.mail;
+
+/** 메일 종류. 발송 지표를 종류별로 나눠 본다. */
+public enum EmailType {
+
+    SIGN_UP_CONFIRM, LOGIN_LINK, STUDY_CREATED
+}
@@ -0,0 +1,94 @@
+package com.project.infra.mail;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 보낼 메일. EmailService.send 는 이 행을 저장만 하고, EmailOutboxWorker 가 꺼내서 보낸다.
+ * 호출한 트랜잭션과 같이 커밋되므로 롤백된 가입에 대해서는 메일이 나가지 않고, 커밋된 메일은 서버가 죽어도 남는다.
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_outbound_email_status_next_attempt", columnList = "status, nextAttemptAt"))
+@Getter
+@EqualsAndHashCode(of = "id")
+@NoArgsConstructor
+public class OutboundEmail {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbound_email_seq")
+    @SequenceGenerator(name = "outbound_email_seq", sequenceName = "outbound_email_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "recipient", nullable = false)
+    private String to;
+
+    private String subject;
+
+    @Column(columnDefinition = "TEXT")
+    private String message;
+
+    @Enumerated(EnumType.STRING)
+    private EmailType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status;
+
+    private int attempts;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime nextAttemptAt;
+
+    private LocalDateTime claimedAt;
+
+    private LocalDateTime sentAt;
+
+    private String lastError;
+
+    public enum Status {
+        PENDING, SENDING, SENT, DEAD
+    }
+
+    public OutboundEmail(EmailMessage emailMessage) {
+        this.to = emailMessage.getTo();
+        this.subject = emailMessage.getSubject();
+        this.message = emailMessage.getMessage();
+        this.type = emailMessage.getType();
+        this.status = Status.PENDING;
+        this.createdAt = LocalDateTime.now();
+        this.nextAttemptAt = this.createdAt;
+    }
+
+    public EmailMessage toEmailMessage() {
+        return EmailMessage.builder().to(to).subject(subject).message(message).type(type).build();
+    }
+
+    public void claim(LocalDateTime now) {
+        this.status = Status.SENDING;
+        this.claimedAt = now;
+    }
+
+    public void sent(LocalDateTime now) {
+        this.status = Status.SENT;
+        this.sentAt = now;
+        this.lastError = null;
+    }
+
+    /** 실패 횟수에 따라 다음 시도 시각을 2 배씩 늦추고, maxAttempts 를 넘으면 더 보내지 않는다. */
+    public void failed(String error, LocalDateTime now, int maxAttempts, long baseDelaySeconds, long maxDelaySeconds) {
+        this.attempts++;
+        this.lastError = error == null ? null : error.substring(0, Math.min(error.length(), 255));
+        if (attempts >= maxAttempts) {
+            this.status = Status.DEAD;
+            return;
+        }
+        long delay = Math.min(maxDelaySeconds, baseDelaySeconds << Math.min(attempts - 1, 30));
+        this.status = Status.PENDING;
+        this.nextAttemptAt = now.plusSeconds(delay);
+    }
+}
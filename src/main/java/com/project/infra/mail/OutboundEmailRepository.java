@@ -0,0 +1,34 @@
+package com.project.infra.mail;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Transactional(readOnly = true)
+public interface OutboundEmailRepository extends JpaRepository<OutboundEmail, Long> {
+
+    /**
+     * 보낼 차례가 된 메일과, SENDING 상태로 staleBefore 보다 오래 남은(보내던 워커가 죽은) 메일을 잠근다.
+     * lock.timeout -2 는 Hibernate 에서 SKIP LOCKED 이므로 여러 워커/인스턴스가 같은 행을 두고 기다리지 않는다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+    @Query("select e from OutboundEmail e " +
+            "where (e.status = :pending and e.nextAttemptAt <= :now) " +
+            "or (e.status = :sending and e.claimedAt < :staleBefore) " +
+            "order by e.id")
+    List<OutboundEmail> findClaimable(@Param("pending") OutboundEmail.Status pending, @Param("now") LocalDateTime now,
+                                      @Param("sending") OutboundEmail.Status sending,
+                                      @Param("staleBefore") LocalDateTime staleBefore, Pageable pageable);
+
+    long countByStatus(OutboundEmail.Status status);
+}
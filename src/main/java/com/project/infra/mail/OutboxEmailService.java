@@ -0,0 +1,19 @@
+package com.project.infra.mail;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/** 메일을 바로 보내지 않고 outbox 에 넣는다. 요청 스레드는 SMTP 왕복을 기다리지 않는다. */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class OutboxEmailService implements EmailService {
+
+    private final OutboundEmailRepository outboundEmailRepository;
+
+    @Override
+    public void send(EmailMessage emailMessage) {
+        outboundEmailRepository.save(new OutboundEmail(emailMessage));
+    }
+}
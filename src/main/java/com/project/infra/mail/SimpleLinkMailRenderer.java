@@ -0,0 +1,96 @@
+package com.project.infra.mail;
+
+import com.project.infra.config.AppProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.unbescape.html.HtmlEscape;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * mail/simple-link 템플릿 렌더링.
+ * 같은 메일을 여러 명에게 보낼 때 템플릿은 {@link #prepare} 에서 한 번만 처리하고,
+ * 받는 사람마다 달라지는 nickname, link 자리만 문자열로 채운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SimpleLinkMailRenderer {
+
+    static final String TEMPLATE = "mail/simple-link";
+
+    private final TemplateEngine templateEngine;
+    private final AppProperties appProperties;
+
+    /** 한 명에게 보내는 메일. */
+    public String render(String nickname, String link, String linkName, String message) {
+        return prepare(linkName, message).render(nickname, link);
+    }
+
+    /** message, linkName, host 는 공통이고 nickname, link 는 받는 사람마다 다른 메일. */
+    public Prepared prepare(String linkName, String message) {
+        // 템플릿이 escape 하지 않는 문자만 쓴 자리표시자를 넣고 렌더링한 뒤 그 자리를 기준으로 자른다.
+        String token = UUID.randomUUID().toString();
+        String nicknameToken = "NICKNAME-" + token;
+        String linkToken = "LINK-" + token;
+
+        Context context = new Context();
+        context.setVariable("nickname", nicknameToken);
+        context.setVariable("link", linkToken);
+        context.setVariable("linkName", linkName);
+        context.setVariable("message", message);
+        context.setVariable("host", appProperties.getHost());
+        String rendered = templateEngine.process(TEMPLATE, context);
+
+        List<String> segments = new ArrayList<>();
+        List<Boolean> nicknameSlots = new ArrayList<>();
+        int from = 0;
+        while (true) {
+            int nickname = rendered.indexOf(nicknameToken, from);
+            int link = rendered.indexOf(linkToken, from);
+            if (nickname < 0 && link < 0) {
+                break;
+            }
+            boolean isNickname = link < 0 || (nickname >= 0 && nickname < link);
+            int at = isNickname ? nickname : link;
+            segments.add(rendered.substring(from, at));
+            nicknameSlots.add(isNickname);
+            from = at + (isNickname ? nicknameToken : linkToken).length();
+        }
+        segments.add(rendered.substring(from));
+        return new Prepared(segments.toArray(new String[0]), nicknameSlots);
+    }
+
+    public static class Prepared {
+
+        private final String[] segments;
+        private final boolean[] nicknameSlots;
+        private final int length;
+
+        private Prepared(String[] segments, List<Boolean> nicknameSlots) {
+            this.segments = segments;
+            this.nicknameSlots = new boolean[nicknameSlots.size()];
+            for (int i = 0; i < this.nicknameSlots.length; i++) {
+                this.nicknameSlots[i] = nicknameSlots.get(i);
+            }
+            int length = 0;
+            for (String segment : segments) {
+                length += segment.length();
+            }
+            this.length = length;
+        }
+
+        public String render(String nickname, String link) {
+            String escapedNickname = HtmlEscape.escapeHtml4Xml(nickname);
+            String escapedLink = HtmlEscape.escapeHtml4Xml(link);
+            StringBuilder html = new StringBuilder(length + 64 * nicknameSlots.length);
+            for (int i = 0; i < nicknameSlots.length; i++) {
+                html.append(segments[i]).append(nicknameSlots[i] ? escapedNickname : escapedLink);
+            }
+            return html.append(segments[segments.length - 1]).toString();
+        }
+    }
+}
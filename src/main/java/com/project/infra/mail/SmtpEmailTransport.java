@@ -0,0 +1,72 @@
+package com.project.infra.mail;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+
+import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JavaMailSender 로 HTML 메일을 보낸다.
+ * send(MimeMessage...) 는 SMTP 연결 하나로 배열 전체를 보내므로 메일마다 접속/인증을 반복하지 않는다.
+ */
+@Slf4j
+@Profile("dev")
+@Component
+@RequiredArgsConstructor
+public class SmtpEmailTransport implements EmailTransport {
+
+    private final JavaMailSender javaMailSender;
+
+    @Override
+    public Map<EmailMessage, Exception> send(List<EmailMessage> emailMessages) {
+        Map<EmailMessage, Exception> failures = new IdentityHashMap<>();
+        List<EmailMessage> prepared = new ArrayList<>();
+        Map<MimeMessage, EmailMessage> byMimeMessage = new IdentityHashMap<>();
+        for (EmailMessage emailMessage : emailMessages) {
+            try {
+                byMimeMessage.put(toMimeMessage(emailMessage), emailMessage);
+                prepared.add(emailMessage);
+            } catch (MessagingException e) {
+                failures.put(emailMessage, e);
+            }
+        }
+        if (byMimeMessage.isEmpty()) {
+            return failures;
+        }
+
+        try {
+            javaMailSender.send(byMimeMessage.keySet().toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            if (e.getFailedMessages().isEmpty()) {
+                prepared.forEach(emailMessage -> failures.put(emailMessage, e));
+            }
+            e.getFailedMessages().forEach((mimeMessage, exception) ->
+                    failures.put(byMimeMessage.get(mimeMessage), exception));
+        } catch (MailException e) {
+            // 접속이나 인증에 실패하면 한 통도 나가지 않았다.
+            prepared.forEach(emailMessage -> failures.put(emailMessage, e));
+        }
+        log.info("sent {} emails, {} failed", emailMessages.size() - failures.size(), failures.size());
+        return failures;
+    }
+
+    private MimeMessage toMimeMessage(EmailMessage emailMessage) throws MessagingException {
+        MimeMessage mimeMessage = javaMailSender.createMimeMessage();
+        MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(mimeMessage, false, "UTF-8");
+        mimeMessageHelper.setTo(emailMessage.getTo());
+        mimeMessageHelper.setSubject(emailMessage.getSubject());
+        mimeMessageHelper.setText(emailMessage.getMessage(), true);
+        return mimeMessage;
+    }
+}
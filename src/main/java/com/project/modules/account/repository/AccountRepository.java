@@ -2,9 +2,13 @@ package com.project.modules.account.repository;
 
 import com.project.modules.domain.Account;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Transactional(readOnly = true)
 public interface AccountRepository extends JpaRepository<Account, Long>, QuerydslPredicateExecutor<Account> {
 
@@ -15,4 +19,8 @@ public interface AccountRepository extends JpaRepository<Account, Long>, Queryds
     Account findByEmail(String email);
 
     Account findByNickname(String nickname);
+
+    /** 로그인 아이디로 이메일과 닉네임을 한 번에 찾는다. 둘 다 unique 인덱스를 타므로 OR 조건이어도 행 두 개 이내만 읽는다. */
+    @Query("select a from Account a where a.email = :username or a.nickname = :username")
+    List<Account> findByEmailOrNickname(@Param("username") String username);
 }
@@ -0,0 +1,204 @@
+package com.project.modules.account.service;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.QueryHints;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import static com.project.modules.domain.QAccount.account;
+import static com.project.modules.domain.QTag.tag;
+import static com.project.modules.domain.QZone.zone;
+
+/**
+ * 관심 주제/활동 지역별 계정 id 비트맵.
+ * 스터디 알림 대상을 account_tags, account_zones 조인 없이 비트맵 OR/AND 로 계산한다.
+ * 애플리케이션 시작 시 DB 에서 한 번 만들고, 이후 변경은 AccountService 가 커밋 이후에 반영한다.
+ * 다 만들어지기 전에는 {@link #isReady()} 가 false 이므로 호출하는 쪽은 DB 쿼리를 써야 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccountInterestIndex {
+
+    private static final int FETCH_SIZE = 1000;
+
+    private final JPAQueryFactory queryFactory;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Roaring64NavigableMap> accountsByTag = new HashMap<>();
+    private final Map<Long, Roaring64NavigableMap> accountsByZone = new HashMap<>();
+    private final Roaring64NavigableMap studyCreatedByWeb = new Roaring64NavigableMap();
+    private final Roaring64NavigableMap studyCreatedByEmail = new Roaring64NavigableMap();
+    private volatile boolean ready;
+
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            accountsByTag.clear();
+            accountsByZone.clear();
+            studyCreatedByWeb.clear();
+            studyCreatedByEmail.clear();
+
+            try (Stream<Tuple> tuples = queryFactory.select(account.id, tag.id).from(account).join(account.tags, tag)
+                    .setHint(QueryHints.HINT_FETCH_SIZE, FETCH_SIZE).stream()) {
+                tuples.forEach(tuple -> bitmap(accountsByTag, tuple.get(tag.id)).addLong(tuple.get(account.id)));
+            }
+            try (Stream<Tuple> tuples = queryFactory.select(account.id, zone.id).from(account).join(account.zones, zone)
+                    .setHint(QueryHints.HINT_FETCH_SIZE, FETCH_SIZE).stream()) {
+                tuples.forEach(tuple -> bitmap(accountsByZone, tuple.get(zone.id)).addLong(tuple.get(account.id)));
+            }
+            try (Stream<Tuple> tuples = queryFactory.select(account.id, account.studyCreatedByWeb, account.studyCreatedByEmail)
+                    .from(account)
+                    .where(account.studyCreatedByWeb.isTrue().or(account.studyCreatedByEmail.isTrue()))
+                    .setHint(QueryHints.HINT_FETCH_SIZE, FETCH_SIZE).stream()) {
+                tuples.forEach(tuple -> setFlags(tuple.get(account.id),
+                        Boolean.TRUE.equals(tuple.get(account.studyCreatedByWeb)),
+                        Boolean.TRUE.equals(tuple.get(account.studyCreatedByEmail))));
+            }
+
+            accountsByTag.values().forEach(Roaring64NavigableMap::runOptimize);
+            accountsByZone.values().forEach(Roaring64NavigableMap::runOptimize);
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("account interest index built in {}ms: {} tags, {} zones",
+                System.currentTimeMillis() - start, accountsByTag.size(), accountsByZone.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void addTag(Long accountId, Long tagId) {
+        afterCommit(() -> bitmap(accountsByTag, tagId).addLong(accountId));
+    }
+
+    public void removeTag(Long accountId, Long tagId) {
+        afterCommit(() -> remove(accountsByTag, tagId, accountId));
+    }
+
+    public void addZone(Long accountId, Long zoneId) {
+        afterCommit(() -> bitmap(accountsByZone, zoneId).addLong(accountId));
+    }
+
+    public void removeZone(Long accountId, Long zoneId) {
+        afterCommit(() -> remove(accountsByZone, zoneId, accountId));
+    }
+
+    public void updateStudyCreatedFlags(Long accountId, boolean byWeb, boolean byEmail) {
+        afterCommit(() -> setFlags(accountId, byWeb, byEmail));
+    }
+
+    /**
+     * 주제 중 하나 이상, 지역 중 하나 이상이 겹치는 계정 중 스터디 개설 알림을 받는 계정.
+     * 반환하는 비트맵은 복사본이므로 호출하는 쪽에서 자유롭게 써도 된다.
+     */
+    public Recipients findStudyCreatedRecipients(Collection<Long> tagIds, Collection<Long> zoneIds) {
+        lock.readLock().lock();
+        try {
+            Roaring64NavigableMap interested = union(accountsByTag, tagIds);
+            interested.and(union(accountsByZone, zoneIds));
+
+            Roaring64NavigableMap byWeb = copy(interested);
+            byWeb.and(studyCreatedByWeb);
+            Roaring64NavigableMap byEmail = copy(interested);
+            byEmail.and(studyCreatedByEmail);
+            return new Recipients(byWeb, byEmail);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static Roaring64NavigableMap union(Map<Long, Roaring64NavigableMap> bitmaps, Collection<Long> keys) {
+        Roaring64NavigableMap union = new Roaring64NavigableMap();
+        for (Long key : keys) {
+            Roaring64NavigableMap bitmap = bitmaps.get(key);
+            if (bitmap != null) {
+                union.or(bitmap);
+            }
+        }
+        return union;
+    }
+
+    private static Roaring64NavigableMap copy(Roaring64NavigableMap bitmap) {
+        Roaring64NavigableMap copy = new Roaring64NavigableMap();
+        copy.or(bitmap);
+        return copy;
+    }
+
+    private static Roaring64NavigableMap bitmap(Map<Long, Roaring64NavigableMap> bitmaps, Long key) {
+        return bitmaps.computeIfAbsent(key, k -> new Roaring64NavigableMap());
+    }
+
+    private static void remove(Map<Long, Roaring64NavigableMap> bitmaps, Long key, Long accountId) {
+        Roaring64NavigableMap bitmap = bitmaps.get(key);
+        if (bitmap != null) {
+            bitmap.removeLong(accountId);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(key);
+            }
+        }
+    }
+
+    private void setFlags(Long accountId, boolean byWeb, boolean byEmail) {
+        if (byWeb) {
+            studyCreatedByWeb.addLong(accountId);
+        } else {
+            studyCreatedByWeb.removeLong(accountId);
+        }
+        if (byEmail) {
+            studyCreatedByEmail.addLong(accountId);
+        } else {
+            studyCreatedByEmail.removeLong(accountId);
+        }
+    }
+
+    private void afterCommit(Runnable task) {
+        Runnable locked = () -> {
+            lock.writeLock().lock();
+            try {
+                task.run();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            locked.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                locked.run();
+            }
+        });
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Recipients {
+
+        private final Roaring64NavigableMap byWeb;
+        private final Roaring64NavigableMap byEmail;
+    }
+}
@@ -0,0 +1,97 @@
+package com.project.modules.account.service;
+
+import com.project.modules.domain.Account;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 로그인/remember-me 인증 때 쓰는 계정 캐시. 키는 사용자가 입력한 이메일 또는 닉네임이다.
+ * 최대 MAX_SIZE 개를 LRU 로 유지하고 TTL 이 지나면 다시 읽는다.
+ * 계정 정보가 바뀌면 AccountService 가 커밋 이후에 {@link #evict(Long)} 한다.
+ * 읽는 동안 evict 가 있었으면 읽은 값이 바뀌기 전 값일 수 있으므로 캐시에 넣지 않는다(generation 으로 확인).
+ */
+@Component
+public class AccountPrincipalCache {
+
+    static final int MAX_SIZE = 10_000;
+    static final Duration TTL = Duration.ofMinutes(10);
+
+    private final Clock clock;
+    private final Map<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > MAX_SIZE;
+        }
+    };
+    /** evict 할 때마다 올린다. entries 로 동기화한다. */
+    private long generation;
+
+    public AccountPrincipalCache() {
+        this(Clock.systemDefaultZone());
+    }
+
+    AccountPrincipalCache(Clock clock) {
+        this.clock = clock;
+    }
+
+    /** 캐시에 없거나 만료됐으면 loader 로 읽는다. 없는 계정은 캐시하지 않는다. */
+    public Optional<Account> get(String username, Function<String, Optional<Account>> loader) {
+        long now = clock.millis();
+        long loadGeneration;
+        synchronized (entries) {
+            Entry entry = entries.get(username);
+            if (entry != null && entry.expiresAt > now) {
+                return Optional.of(entry.account);
+            }
+            loadGeneration = generation;
+        }
+
+        Optional<Account> loaded = loader.apply(username);
+        loaded.ifPresent(account -> {
+            synchronized (entries) {
+                if (generation == loadGeneration) {
+                    entries.put(username, new Entry(account, now + TTL.toMillis()));
+                }
+            }
+        });
+        return loaded;
+    }
+
+    public void evict(Long accountId) {
+        Runnable task = () -> {
+            synchronized (entries) {
+                generation++;
+                entries.values().removeIf(entry -> entry.account.getId().equals(accountId));
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    private static class Entry {
+
+        private final Account account;
+        private final long expiresAt;
+
+        Entry(Account account, long expiresAt) {
+            this.account = account;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -3,21 +3,22 @@ package com.project.modules.account.service;
 import com.project.modules.account.form.SignUpForm;
 import com.project.modules.account.repository.AccountRepository;
 import com.project.modules.account.util.UserAccount;
-import com.project.infra.config.AppProperties;
+import com.project.infra.image.ImageStore;
 import com.project.modules.domain.Account;
 import com.project.modules.domain.Tag;
 import com.project.modules.domain.Zone;
 import com.project.infra.mail.EmailMessage;
 import com.project.infra.mail.EmailService;
+import com.project.infra.mail.EmailType;
+import com.project.infra.mail.SimpleLinkMailRenderer;
 import com.project.modules.settings.form.NicknameForm;
 import com.project.modules.settings.form.Notifications;
 import com.project.modules.settings.form.PasswordForm;
 import com.project.modules.settings.form.Profile;
+import com.project.modules.tag.service.TagSuggestIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -27,8 +28,6 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.thymeleaf.TemplateEngine;
-import org.thymeleaf.context.Context;
 
 import java.util.List;
 import java.util.Optional;
@@ -41,12 +40,14 @@ import java.util.Set;
 public class AccountService implements UserDetailsService {
 
     private final AccountRepository accountRepository;
-    private final JavaMailSender javaMailSender;
     private final PasswordEncoder passwordEncoder;
     private final ModelMapper modelMapper;
-    private final TemplateEngine templateEngine;
     private final EmailService emailService;
-    private final AppProperties appProperties;
+    private final SimpleLinkMailRenderer simpleLinkMailRenderer;
+    private final ImageStore imageStore;
+    private final AccountInterestIndex accountInterestIndex;
+    private final AccountPrincipalCache accountPrincipalCache;
+    private final TagSuggestIndex tagSuggestIndex;
 
     public Account processNewAccount(SignUpForm signUpForm) {
         Account newAccount = saveNewAccount(signUpForm);
@@ -58,23 +59,22 @@ public class AccountService implements UserDetailsService {
         signUpForm.setPassword(passwordEncoder.encode(signUpForm.getPassword()));
         Account account = modelMapper.map(signUpForm, Account.class);
         account.generateEmailCheckToken();
-        return accountRepository.save(account);
+        Account newAccount = accountRepository.save(account);
+        accountInterestIndex.updateStudyCreatedFlags(newAccount.getId(),
+                newAccount.isStudyCreatedByWeb(), newAccount.isStudyCreatedByEmail());
+        return newAccount;
     }
 
     public void sendSignUpConfirmEmail(Account newAccount) {
-        Context context = new Context();
-        context.setVariable("link", "/check-email-token?token=" + newAccount.getEmailCheckToken() +
-                "&email=" + newAccount.getEmail());
-        context.setVariable("nickname", newAccount.getNickname());
-        context.setVariable("linkName", "이메일 인증하기");
-        context.setVariable("message", "스터디올래 서비스를 사용하려면 링크를 클릭하세요.");
-        context.setVariable("host", appProperties.getHost());
-        String message = templateEngine.process("mail/simple-link", context);
+        String message = simpleLinkMailRenderer.render(newAccount.getNickname(),
+                "/check-email-token?token=" + newAccount.getEmailCheckToken() + "&email=" + newAccount.getEmail(),
+                "이메일 인증하기", "스터디올래 서비스를 사용하려면 링크를 클릭하세요.");
 
         EmailMessage emailMessage = EmailMessage.builder()
                 .to(newAccount.getEmail())
                 .subject("스터디올래, 회원 가입 인증")
                 .message(message)
+                .type(EmailType.SIGN_UP_CONFIRM)
                 .build();
 
         emailService.send(emailMessage);
@@ -88,54 +88,70 @@ public class AccountService implements UserDetailsService {
         SecurityContextHolder.getContext().setAuthentication(token);
     }
 
+    /** 폼 로그인과 remember-me 가 모두 여기로 온다. AccountPrincipalCache 에 있으면 쿼리하지 않는다. */
     @Override
     public UserDetails loadUserByUsername(String emailOrNickname) throws UsernameNotFoundException {
-        Account account = accountRepository.findByEmail(emailOrNickname);
-        if (account == null) {
-            account = accountRepository.findByNickname(emailOrNickname);
-        }
-
-        if (account == null) {
-            throw new UsernameNotFoundException(emailOrNickname);
-        }
+        Account account = accountPrincipalCache.get(emailOrNickname, this::findByEmailOrNickname)
+                .orElseThrow(() -> new UsernameNotFoundException(emailOrNickname));
+        return new UserAccount(account.copyForPrincipal());
+    }
 
-        return new UserAccount(account);
+    private Optional<Account> findByEmailOrNickname(String emailOrNickname) {
+        List<Account> accounts = accountRepository.findByEmailOrNickname(emailOrNickname);
+        return accounts.stream()
+                .filter(account -> emailOrNickname.equals(account.getEmail()))
+                .findFirst()
+                .or(() -> accounts.stream().findFirst())
+                .map(Account::copyForPrincipal);
     }
 
     public void completeSignUp(Account account) {
         account.completeSignUp();
+        accountPrincipalCache.evict(account.getId());
         login(account);
     }
 
     public void updateProfile(Account account, Profile profile) {
+        profile.setProfileImage(imageStore.store(profile.getProfileImage()));
         modelMapper.map(profile, account);
         accountRepository.save(account);
+        accountPrincipalCache.evict(account.getId());
+        login(account);
     }
 
     public void updatePassword(Account account, PasswordForm password) {
         account.setPassword(passwordEncoder.encode(password.getNewPassword()));
         accountRepository.save(account);
+        accountPrincipalCache.evict(account.getId());
     }
 
     public void updateNotifications(Account account, Notifications notifications) {
         modelMapper.map(notifications, account);
         accountRepository.save(account);
+        accountPrincipalCache.evict(account.getId());
+        accountInterestIndex.updateStudyCreatedFlags(account.getId(),
+                account.isStudyCreatedByWeb(), account.isStudyCreatedByEmail());
     }
 
     public void updateAccount(Account account, NicknameForm nicknameForm) {
         modelMapper.map(nicknameForm, account);
         accountRepository.save(account);
+        accountPrincipalCache.evict(account.getId());
         login(account);
     }
 
     public void sendLoginLink(Account account) {
         account.generateEmailCheckToken();
-        SimpleMailMessage mailMessage = new SimpleMailMessage();
-        mailMessage.setTo(account.getEmail());
-        mailMessage.setSubject("스터디올래, 로그인 링크");
-        mailMessage.setText("/login-by-email?token=" + account.getEmailCheckToken() +
-                "&email=" + account.getEmail());
-        javaMailSender.send(mailMessage);
+        String message = simpleLinkMailRenderer.render(account.getNickname(),
+                "/login-by-email?token=" + account.getEmailCheckToken() + "&email=" + account.getEmail(),
+                "스터디올래 로그인하기", "로그인 하려면 아래 링크를 클릭하세요.");
+
+        emailService.send(EmailMessage.builder()
+                .to(account.getEmail())
+                .subject("스터디올래, 로그인 링크")
+                .message(message)
+                .type(EmailType.LOGIN_LINK)
+                .build());
     }
 
 
@@ -155,12 +171,22 @@ public class AccountService implements UserDetailsService {
 
     public void addTag(Account account, Tag tag) {
         Optional<Account> byId = accountRepository.findById(account.getId());
-        byId.ifPresent(a -> a.getTags().add(tag));
+        byId.ifPresent(a -> {
+            if (a.getTags().add(tag)) {
+                accountInterestIndex.addTag(a.getId(), tag.getId());
+                tagSuggestIndex.addUsage(tag.getTitle(), 1);
+            }
+        });
     }
 
     public void removeTag(Account account, Tag tag) {
         Optional<Account> byId = accountRepository.findById(account.getId());
-        byId.ifPresent(a -> a.getTags().remove(tag));
+        byId.ifPresent(a -> {
+            if (a.getTags().remove(tag)) {
+                accountInterestIndex.removeTag(a.getId(), tag.getId());
+                tagSuggestIndex.addUsage(tag.getTitle(), -1);
+            }
+        });
     }
 
 
@@ -171,11 +197,19 @@ public class AccountService implements UserDetailsService {
 
     public void addZone(Account account, Zone zone) {
         Optional<Account> byId = accountRepository.findById(account.getId());
-        byId.ifPresent(a -> a.getZones().add(zone));
+        byId.ifPresent(a -> {
+            if (a.getZones().add(zone)) {
+                accountInterestIndex.addZone(a.getId(), zone.getId());
+            }
+        });
     }
 
     public void removeZone(Account account, Zone zone) {
         Optional<Account> byId = accountRepository.findById(account.getId());
-        byId.ifPresent(a -> a.getZones().remove(zone));
+        byId.ifPresent(a -> {
+            if (a.getZones().remove(zone)) {
+                accountInterestIndex.removeZone(a.getId(), zone.getId());
+            }
+        });
     }
 }
@@ -1,14 +1,15 @@
 package com.project.modules.account.util;
 
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+/**
+ * 로그인한 계정. 파라미터 타입이 {@link LoginAccount} 면 세션의 값을 그대로 쓰고,
+ * Account 면 CurrentAccountArgumentResolver 가 id 로 엔티티를 읽는다. 로그인하지 않았으면 null.
+ */
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.PARAMETER)
-@AuthenticationPrincipal(expression = "#this == 'anonymousUser' ? null : account")
 public @interface CurrentAccount {
 }
@@ -0,0 +1,40 @@
+package com.project.modules.account.util;
+
+import com.project.modules.account.repository.AccountRepository;
+import com.project.modules.domain.Account;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+@Component
+@RequiredArgsConstructor
+public class CurrentAccountArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final AccountRepository accountRepository;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(CurrentAccount.class)
+                && (parameter.getParameterType() == Account.class || parameter.getParameterType() == LoginAccount.class);
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof UserAccount)) {
+            return null;
+        }
+        LoginAccount loginAccount = ((UserAccount) authentication.getPrincipal()).getLoginAccount();
+        if (parameter.getParameterType() == LoginAccount.class) {
+            return loginAccount;
+        }
+        return accountRepository.findById(loginAccount.getId()).orElse(null);
+    }
+}
@@ -0,0 +1,37 @@
+package com.project.modules.account.util;
+
+import com.project.infra.image.ImageStore;
+import com.project.modules.domain.Account;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 세션에 저장하는 로그인 계정 정보. 엔티티 대신 식별에 필요한 값만 담아 세션 크기를 프로필 크기와 무관하게 유지한다.
+ * 엔티티가 필요한 곳은 {@code @CurrentAccount Account} 로 받으면 요청마다 DB 에서 읽는다.
+ * 상단 메뉴의 아바타를 그릴 수 있게 ImageStore 에 저장된 프로필 이미지 URL 도 담는다. data URL 은 크기가 커서 담지 않는다.
+ */
+@Getter
+@EqualsAndHashCode(of = "id")
+@RequiredArgsConstructor
+public class LoginAccount implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Long id;
+    private final String nickname;
+    private final String email;
+    private final boolean emailVerified;
+    private final String profileImage;
+
+    public static LoginAccount of(Account account) {
+        String profileImage = account.getProfileImage();
+        if (profileImage != null && !profileImage.startsWith(ImageStore.URL_PREFIX)) {
+            profileImage = null;
+        }
+        return new LoginAccount(account.getId(), account.getNickname(), account.getEmail(), account.isEmailVerified(),
+                profileImage);
+    }
+}
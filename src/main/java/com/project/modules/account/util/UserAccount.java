@@ -10,10 +10,16 @@ import java.util.List;
 @Getter
 public class UserAccount extends User {
 
-    private Account account;
+    private static final long serialVersionUID = 1L;
+
+    private final LoginAccount loginAccount;
 
     public UserAccount(Account account) {
         super(account.getNickname(), account.getPassword(), List.of(new SimpleGrantedAuthority("ROLE_USER")));
-        this.account = account;
+        this.loginAccount = LoginAccount.of(account);
+    }
+
+    public Long getAccountId() {
+        return loginAccount.getId();
     }
 }
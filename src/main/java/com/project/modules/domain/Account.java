@@ -12,7 +12,7 @@ import java.util.UUID;
 @Getter
 @Setter
 @EqualsAndHashCode(of = "id")
-@Builder
+@Builder(toBuilder = true)
 @AllArgsConstructor
 @NoArgsConstructor
 public class Account {
@@ -45,8 +45,7 @@ public class Account {
 
     private String location;
 
-    @Lob
-    @Basic(fetch = FetchType.EAGER)
+    /** ImageStore 에 저장된 프로필 이미지 URL */
     private String profileImage;
 
     private boolean studyCreatedByEmail;
@@ -62,9 +61,11 @@ public class Account {
     private boolean studyUpdatedByWeb = true;
 
     @ManyToMany
+    @JoinTable(indexes = @Index(name = "idx_account_tags_tags_id", columnList = "tags_id"))
     private Set<Tag> tags = new HashSet<>();
 
     @ManyToMany
+    @JoinTable(indexes = @Index(name = "idx_account_zones_zones_id", columnList = "zones_id"))
     private Set<Zone> zones = new HashSet<>();
 
     public void generateEmailCheckToken() {
@@ -72,6 +73,11 @@ public class Account {
         this.emailCheckTokenGeneratedAt = LocalDateTime.now();
     }
 
+    /** 인증 주체(UserAccount)에 담을 복사본. 세션마다 따로 갖도록 새 객체를 만들고 태그/지역은 담지 않는다. */
+    public Account copyForPrincipal() {
+        return toBuilder().tags(new HashSet<>()).zones(new HashSet<>()).build();
+    }
+
     public void completeSignUp() {
         this.emailVerified = true;
         this.joinedAt = LocalDateTime.now();
@@ -84,8 +90,4 @@ public class Account {
     public boolean canSendConfirmEmail() {
         return this.emailCheckTokenGeneratedAt.isBefore(LocalDateTime.now().minusHours(1));
     }
-
-    public boolean isManagerOf(Study study) {
-        return study.getManagers().contains(this);
-    }
 }
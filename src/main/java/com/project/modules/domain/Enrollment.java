@@ -6,6 +6,8 @@ import javax.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = @Index(name = "idx_enrollment_event_accepted_ordinal", columnList = "event_id, accepted, waitlistOrdinal"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_enrollment_event_account", columnNames = {"event_id", "account_id"}))
 @Getter @Setter @EqualsAndHashCode(of = "id")
 @NoArgsConstructor
 public class Enrollment implements Comparable<Enrollment> {
@@ -25,6 +27,10 @@ public class Enrollment implements Comparable<Enrollment> {
 
     private boolean attended;
 
+    /** 모임 안에서의 신청 순번. 대기자는 이 순서대로 수락된다. 0 은 순번을 매기기 전의 행으로, CounterBackfill 이 채운다. */
+    @Column(columnDefinition = "bigint default 0 not null")
+    private long waitlistOrdinal;
+
     public Enrollment(Event event, Account account, LocalDateTime enrolledAt, boolean accepted, boolean attended) {
         this.event = event;
         this.account = account;
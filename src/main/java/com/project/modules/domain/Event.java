@@ -1,6 +1,5 @@
 package com.project.modules.domain;
 
-import com.project.modules.account.util.UserAccount;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
@@ -9,13 +8,13 @@ import javax.persistence.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @NamedEntityGraph(
         name = "Event.withEnrollments",
         attributeNodes = @NamedAttributeNode("enrollments")
 )
 @Entity
+@Table(indexes = @Index(name = "idx_event_study_start_end", columnList = "study_id, startDateTime, endDateTime"))
 @Getter @Setter @EqualsAndHashCode(of = "id")
 public class Event {
 
@@ -56,117 +55,121 @@ public class Event {
     @Enumerated(EnumType.STRING)
     private EventType eventType;
 
-    public boolean isEnrollableFor(UserAccount userAccount) {
-        return isNotClosed() && !isAttended(userAccount) && !isAlreadyEnrolled(userAccount);
+    /**
+     * 수락된 신청 수. enrollments 를 읽지 않고 남은 자리를 계산하기 위해 유지한다.
+     * 아래 세 값은 오래된 Event 를 저장해도 덮어쓰지 않도록 updatable = false 이고, 아래 메서드는 메모리의 값만 바꾼다.
+     * DB 는 EventRepository.addCounts 로 같은 만큼 바꾼다.
+     */
+    @Column(updatable = false, columnDefinition = "integer default 0 not null")
+    private int acceptedCount;
+
+    /** 대기 중인 신청 수 */
+    @Column(updatable = false, columnDefinition = "integer default 0 not null")
+    private int waitingCount;
+
+    /** 마지막으로 발급한 Enrollment.waitlistOrdinal */
+    @Column(updatable = false, columnDefinition = "bigint default 0 not null")
+    private long enrollmentSequence;
+
+    public boolean isEnrollableFor(Enrollment myEnrollment) {
+        return isNotClosed() && myEnrollment == null;
     }
 
-    public boolean isDisenrollableFor(UserAccount userAccount) {
-        return isNotClosed() && !isAttended(userAccount) && isAlreadyEnrolled(userAccount);
+    public boolean isDisenrollableFor(Enrollment myEnrollment) {
+        return isNotClosed() && myEnrollment != null && !myEnrollment.isAttended();
     }
 
     private boolean isNotClosed() {
         return this.endEnrollmentDateTime.isAfter(LocalDateTime.now());
     }
 
-    public boolean isAttended(UserAccount userAccount) {
-        Account account = userAccount.getAccount();
-        for (Enrollment e : this.enrollments) {
-            if (e.getAccount().equals(account) && e.isAttended()) {
-                return true;
-            }
-        }
-
-        return false;
+    public boolean isAttended(Enrollment myEnrollment) {
+        return myEnrollment != null && myEnrollment.isAttended();
     }
 
     public int numberOfRemainSpots() {
-        return this.limitOfEnrollments - (int) this.enrollments.stream().filter(Enrollment::isAccepted).count();
+        return this.limitOfEnrollments - this.acceptedCount;
     }
 
-    private boolean isAlreadyEnrolled(UserAccount userAccount) {
-        Account account = userAccount.getAccount();
-        for (Enrollment e : this.enrollments) {
-            if (e.getAccount().equals(account)) {
-                return true;
-            }
-        }
-        return false;
+    public long getNumberOfAcceptedEnrollments() {
+        return this.acceptedCount;
     }
 
-    public long getNumberOfAcceptedEnrollments() {
-        return this.enrollments.stream().filter(Enrollment::isAccepted).count();
+    public int getNumberOfEnrollments() {
+        return this.acceptedCount + this.waitingCount;
     }
 
+    /** 참가 신청 순번을 매기고 인원을 센다. 모임 행 잠금을 잡은 상태에서만 호출한다. */
     public void addEnrollment(Enrollment enrollment) {
-        this.enrollments.add(enrollment);
         enrollment.setEvent(this);
+        enrollment.setWaitlistOrdinal(++this.enrollmentSequence);
+        if (enrollment.isAccepted()) {
+            this.acceptedCount++;
+        } else {
+            this.waitingCount++;
+        }
     }
 
     public void removeEnrollment(Enrollment enrollment) {
-        this.enrollments.remove(enrollment);
+        if (enrollment.isAccepted()) {
+            this.acceptedCount--;
+        } else {
+            this.waitingCount--;
+        }
         enrollment.setEvent(null);
     }
 
     public boolean isAbleToAcceptWaitingEnrollment() {
-        return this.eventType == EventType.FCFS && this.limitOfEnrollments > this.getNumberOfAcceptedEnrollments();
+        return this.eventType == EventType.FCFS && this.limitOfEnrollments > this.acceptedCount;
     }
 
     public boolean canAccept(Enrollment enrollment) {
         return this.eventType == EventType.CONFIRMATIVE
-                && this.enrollments.contains(enrollment)
-                && this.limitOfEnrollments > this.getNumberOfAcceptedEnrollments()
+                && this.equals(enrollment.getEvent())
+                && this.limitOfEnrollments > this.acceptedCount
                 && !enrollment.isAttended()
                 && !enrollment.isAccepted();
     }
 
     public boolean canReject(Enrollment enrollment) {
         return this.eventType == EventType.CONFIRMATIVE
-                && this.enrollments.contains(enrollment)
+                && this.equals(enrollment.getEvent())
                 && !enrollment.isAttended()
                 && enrollment.isAccepted();
     }
 
-    private List<Enrollment> getWaitingList() {
-        return this.enrollments.stream().filter(enrollment -> !enrollment.isAccepted()).collect(Collectors.toList());
-    }
-
-    public void acceptWaitingList() {
-        if (this.isAbleToAcceptWaitingEnrollment()) {
-            var waitingList = getWaitingList();
-            int numberToAccept = (int) Math.min(this.limitOfEnrollments - this.getNumberOfAcceptedEnrollments(), waitingList.size());
-            waitingList.subList(0, numberToAccept).forEach(e -> e.setAccepted(true));
-        }
-    }
-
-    public void acceptNextWaitingEnrollment() {
-        if (this.isAbleToAcceptWaitingEnrollment()) {
-            Enrollment enrollmentToAccept = this.getTheFirstWaitingEnrollment();
-            if (enrollmentToAccept != null) {
-                enrollmentToAccept.setAccepted(true);
-            }
+    /** 대기 중인 신청을 수락한다. 자리가 있는지는 호출하는 쪽에서 확인한다. */
+    public void acceptWaitingEnrollment(Enrollment enrollment) {
+        if (!enrollment.isAccepted()) {
+            enrollment.setAccepted(true);
+            this.acceptedCount++;
+            this.waitingCount--;
         }
     }
 
-    private Enrollment getTheFirstWaitingEnrollment() {
-        for (Enrollment e : this.enrollments) {
-            if (!e.isAccepted()) {
-                return e;
-            }
-        }
-
-        return null;
+    /** 대기자 count 명을 일괄 수락했을 때 인원 수를 옮긴다. */
+    public void acceptWaitingEnrollments(int count) {
+        this.acceptedCount += count;
+        this.waitingCount -= count;
     }
 
-    public void accept(Enrollment enrollment) {
-        if (this.eventType == EventType.CONFIRMATIVE
-                && this.limitOfEnrollments > this.getNumberOfAcceptedEnrollments()) {
-            enrollment.setAccepted(true);
+    /** 신청을 수락하고, 상태가 바뀌었는지 반환한다. */
+    public boolean accept(Enrollment enrollment) {
+        if (!canAccept(enrollment)) {
+            return false;
         }
+        acceptWaitingEnrollment(enrollment);
+        return true;
     }
 
-    public void reject(Enrollment enrollment) {
-        if (this.eventType == EventType.CONFIRMATIVE) {
-            enrollment.setAccepted(false);
+    /** 수락을 취소하고, 상태가 바뀌었는지 반환한다. */
+    public boolean reject(Enrollment enrollment) {
+        if (!canReject(enrollment)) {
+            return false;
         }
+        enrollment.setAccepted(false);
+        this.acceptedCount--;
+        this.waitingCount++;
+        return true;
     }
 }
@@ -1,6 +1,5 @@
 package com.project.modules.domain;
 
-import com.project.modules.account.util.UserAccount;
 import lombok.*;
 
 import javax.persistence.*;
@@ -23,13 +22,11 @@ import java.util.Set;
         @NamedAttributeNode("managers")})
 @NamedEntityGraph(name = "Study.withStatusAndManagers", attributeNodes = {
         @NamedAttributeNode("managers")})
-@NamedEntityGraph(name = "Study.withMembersAndManagers", attributeNodes = {
-        @NamedAttributeNode("members"),
-        @NamedAttributeNode("managers")})
 @NamedEntityGraph(name = "Study.withTagsAndZones", attributeNodes = {
         @NamedAttributeNode("tags"),
         @NamedAttributeNode("zones")})
 @Entity
+@Table(indexes = @Index(name = "idx_study_published_member_count", columnList = "published, memberCount"))
 @Getter
 @Setter
 @EqualsAndHashCode(of = "id")
@@ -59,8 +56,7 @@ public class Study {
     @Basic(fetch = FetchType.EAGER)
     private String fullDescription;
 
-    @Lob
-    @Basic(fetch = FetchType.EAGER)
+    /** ImageStore 에 저장된 배너 이미지 URL */
     private String image;
 
     @ManyToMany
@@ -83,33 +79,14 @@ public class Study {
 
     private boolean useBanner;
 
+    /** study_members 집계 없이 정렬하기 위한 멤버 수. 변경은 StudyRepository.addMemberCount 로만 한다. */
+    @Column(updatable = false, columnDefinition = "integer default 0 not null")
+    private int memberCount;
+
     public void addManager(Account account) {
         this.managers.add(account);
     }
 
-    public boolean isJoinable(UserAccount userAccount) {
-        Account account = userAccount.getAccount();
-        return this.isPublished() && this.isRecruiting()
-                && !this.members.contains(account) && !this.managers.contains(account);
-
-    }
-
-    public boolean isMember(UserAccount userAccount) {
-        return this.members.contains(userAccount.getAccount());
-    }
-
-    public boolean isMemberOf(Account account) {
-        return this.members.contains(account);
-    }
-
-    public boolean isManager(UserAccount userAccount) {
-        return this.managers.contains(userAccount.getAccount());
-    }
-
-    public boolean isManagerOf(Account account) {
-        return this.managers.contains(account);
-    }
-
     public void addMember(Account account) {
         this.members.add(account);
     }
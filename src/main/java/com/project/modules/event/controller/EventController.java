@@ -1,19 +1,23 @@
 package com.project.modules.event.controller;
 
 import com.project.modules.account.util.CurrentAccount;
+import com.project.modules.account.util.LoginAccount;
 import com.project.modules.domain.Account;
 import com.project.modules.domain.Enrollment;
 import com.project.modules.domain.Event;
 import com.project.modules.domain.Study;
 import com.project.modules.event.form.EventForm;
 import com.project.modules.event.repository.EnrollmentRepository;
+import com.project.modules.event.repository.EventCursor;
 import com.project.modules.event.repository.EventRepository;
+import com.project.modules.event.repository.EventSummary;
 import com.project.modules.event.service.EnrollmentService;
 import com.project.modules.event.service.EventService;
 import com.project.modules.event.validator.EventValidator;
 import com.project.modules.study.service.StudyService;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.Errors;
@@ -22,14 +26,15 @@ import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
 
 @Controller
 @RequestMapping("/study/{path}")
 @RequiredArgsConstructor
 public class EventController {
 
+    private static final int NEW_EVENTS_SIZE = 10;
+    private static final int OLD_EVENTS_SIZE = 20;
+
     private final StudyService studyService;
     private final EventRepository eventRepository;
     private final EventService eventService;
@@ -68,32 +73,34 @@ public class EventController {
     }
 
     @GetMapping("/events/{eventId}")
-    public String eventForm(@CurrentAccount Account account, @PathVariable String path, @PathVariable Long eventId, Model model) {
-        model.addAttribute(account);
-        model.addAttribute(eventRepository.findById(eventId).orElseThrow());
-        model.addAttribute(studyService.getStudy(path));
+    public String eventForm(@CurrentAccount LoginAccount account, @PathVariable String path, @PathVariable Long eventId, Model model) {
+        Event event = eventRepository.findById(eventId).orElseThrow();
+        model.addAttribute("account", account);
+        model.addAttribute(event);
+        model.addAttribute("myEnrollment", enrollmentRepository.findByEventAndAccountId(event, account.getId()));
+        model.addAttribute(studyService.getStudyToView(path));
         return "event/view";
     }
 
     @GetMapping("/events")
-    public String eventsForm(@CurrentAccount Account account, @PathVariable String path, Model model) {
-        Study study = studyService.getStudy(path);
-        model.addAttribute(account);
+    public String eventsForm(@CurrentAccount LoginAccount account, @PathVariable String path, Model model,
+                             @RequestParam(required = false) String newAfter,
+                             @RequestParam(required = false) String oldBefore) {
+        Study study = studyService.getStudyToView(path);
+        model.addAttribute("account", account);
         model.addAttribute(study);
 
-        List<Event> events = eventRepository.findByStudyOrderByStartDateTime(study);
-        List<Event> newEvents = new ArrayList<>();
-        List<Event> oldEvents = new ArrayList<>();
-        events.forEach(e -> {
-            if (e.getEndDateTime().isBefore(LocalDateTime.now())) {
-                oldEvents.add(e);
-            } else {
-                newEvents.add(e);
-            }
-        });
-
+        LocalDateTime now = LocalDateTime.now();
+        Slice<EventSummary> newEvents = eventRepository.findNewEventSummaries(study, now, EventCursor.parse(newAfter), NEW_EVENTS_SIZE);
+        Slice<EventSummary> oldEvents = eventRepository.findOldEventSummaries(study, now, EventCursor.parse(oldBefore), OLD_EVENTS_SIZE);
         model.addAttribute("newEvents", newEvents);
         model.addAttribute("oldEvents", oldEvents);
+        model.addAttribute("newEventCount", eventRepository.countByStudyAndEndDateTimeGreaterThanEqual(study, now));
+        model.addAttribute("oldEventCount", eventRepository.countByStudyAndEndDateTimeLessThan(study, now));
+        model.addAttribute("newAfter", newAfter);
+        model.addAttribute("oldBefore", oldBefore);
+        model.addAttribute("newAfterNext", EventCursor.next(newEvents));
+        model.addAttribute("oldBeforeNext", EventCursor.next(oldEvents));
 
         return "study/events";
     }
@@ -138,35 +145,33 @@ public class EventController {
     @PostMapping("/events/{eventId}/enroll")
     public String enrollForm(@CurrentAccount Account account, @PathVariable String path, @PathVariable Long eventId) {
         Study study = studyService.getStudyToEnroll(path);
-        Event event = eventRepository.findById(eventId).orElseThrow();
-        enrollmentService.enroll(event, account);
+        enrollmentService.enroll(eventId, account);
 
         return "redirect:/study/" + study.getEncodedPath() + "/events/" + eventId;
 
     }
 
-    @PostMapping("/events/{id}/disenroll")
-    public String cancelEnrollment(@CurrentAccount Account account,
-                                   @PathVariable String path, @PathVariable("id") Event event) {
+    @PostMapping("/events/{eventId}/disenroll")
+    public String cancelEnrollment(@CurrentAccount Account account, @PathVariable String path, @PathVariable Long eventId) {
         Study study = studyService.getStudyToEnroll(path);
-        eventService.cancelEnrollment(event, account);
-        return "redirect:/study/" + study.getEncodedPath() + "/events/" + event.getId();
+        enrollmentService.disenroll(eventId, account);
+        return "redirect:/study/" + study.getEncodedPath() + "/events/" + eventId;
     }
 
     @GetMapping("events/{eventId}/enrollments/{enrollmentId}/accept")
     public String acceptEnrollment(@CurrentAccount Account account, @PathVariable String path,
-                                   @PathVariable("eventId") Event event, @PathVariable("enrollmentId") Enrollment enrollment) {
+                                   @PathVariable Long eventId, @PathVariable Long enrollmentId) {
         Study study = studyService.getStudyToUpdate(account, path);
-        eventService.acceptEnrollment(event, enrollment);
-        return "redirect:/study/" + study.getEncodedPath() + "/events/" + event.getId();
+        enrollmentService.accept(eventId, enrollmentId);
+        return "redirect:/study/" + study.getEncodedPath() + "/events/" + eventId;
     }
 
     @GetMapping("/events/{eventId}/enrollments/{enrollmentId}/reject")
     public String rejectEnrollment(@CurrentAccount Account account, @PathVariable String path,
-                                   @PathVariable("eventId") Event event, @PathVariable("enrollmentId") Enrollment enrollment) {
+                                   @PathVariable Long eventId, @PathVariable Long enrollmentId) {
         Study study = studyService.getStudyToUpdate(account, path);
-        eventService.rejectEnrollment(event, enrollment);
-        return "redirect:/study/" + study.getEncodedPath() + "/events/" + event.getId();
+        enrollmentService.reject(eventId, enrollmentId);
+        return "redirect:/study/" + study.getEncodedPath() + "/events/" + eventId;
     }
 
     @GetMapping("/events/{eventId}/enrollments/{enrollmentId}/checkin")
@@ -3,10 +3,35 @@ package com.project.modules.event.repository;
 import com.project.modules.domain.Account;
 import com.project.modules.domain.Enrollment;
 import com.project.modules.domain.Event;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Transactional(readOnly = true)
 public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
     Enrollment findByEventAndAccount(Event event, Account account);
+
+    /** 세션의 계정 id 로 찾는다. 화면에서 내 참가 신청을 보여줄 때 Account 를 읽지 않으려고 쓴다. */
+    Enrollment findByEventAndAccountId(Event event, Long accountId);
+
+    boolean existsByEventAndAccount(Event event, Account account);
+
+    long countByEventAndAccepted(Event event, boolean accepted);
+
+    Enrollment findFirstByEventAndAcceptedOrderByWaitlistOrdinalAsc(Event event, boolean accepted);
+
+    @Query("select e.waitlistOrdinal from Enrollment e where e.event = :event and e.accepted = false order by e.waitlistOrdinal")
+    List<Long> findWaitingOrdinals(@Param("event") Event event, Pageable pageable);
+
+    /** lastOrdinal 까지의 대기자를 한 번에 수락한다. 영속성 컨텍스트에 남은 Enrollment 는 오래된 상태가 되므로 비운다. */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Enrollment e set e.accepted = true " +
+            "where e.event = :event and e.accepted = false and e.waitlistOrdinal <= :lastOrdinal")
+    int acceptWaitingEnrollments(@Param("event") Event event, @Param("lastOrdinal") long lastOrdinal);
 }
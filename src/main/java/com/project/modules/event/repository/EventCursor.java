@@ -0,0 +1,46 @@
+package com.project.modules.event.repository;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * 모임 목록 keyset 페이징 커서. (startDateTime, id) 를 URL 에 "2022-03-01T19:00_42" 형태로 싣는다.
+ * 같은 시각에 시작하는 모임이 있어도 id 로 순서가 정해지므로 페이지 사이에 빠지거나 겹치는 모임이 없다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class EventCursor {
+
+    private static final String SEPARATOR = "_";
+
+    private final LocalDateTime startDateTime;
+    private final Long id;
+
+    /** 형식이 맞지 않으면 첫 페이지로 본다. */
+    public static EventCursor parse(String cursor) {
+        if (cursor == null || !cursor.contains(SEPARATOR)) {
+            return null;
+        }
+        int index = cursor.lastIndexOf(SEPARATOR);
+        try {
+            return new EventCursor(LocalDateTime.parse(cursor.substring(0, index)), Long.valueOf(cursor.substring(index + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /** 다음 페이지가 있으면 마지막 모임의 커서, 없으면 null */
+    public static String next(Slice<EventSummary> slice) {
+        if (!slice.hasNext()) {
+            return null;
+        }
+        List<EventSummary> content = slice.getContent();
+        EventSummary last = content.get(content.size() - 1);
+        return last.getStartDateTime() + SEPARATOR + last.getId();
+    }
+}
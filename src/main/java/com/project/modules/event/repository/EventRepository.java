@@ -2,18 +2,38 @@ package com.project.modules.event.repository;
 
 import com.project.modules.domain.Event;
 import com.project.modules.domain.Study;
-import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Optional;
 
 @Repository
 @Transactional(readOnly = true)
-public interface EventRepository extends JpaRepository<Event, Long> {
+public interface EventRepository extends JpaRepository<Event, Long>, EventRepositoryExtension {
 
-    @EntityGraph(value = "Event.withEnrollments", type = EntityGraph.EntityGraphType.LOAD)
-    List<Event> findByStudyOrderByStartDateTime(Study study);
+    long countByStudyAndEndDateTimeGreaterThanEqual(Study study, LocalDateTime now);
+
+    long countByStudyAndEndDateTimeLessThan(Study study, LocalDateTime now);
+
+    /** 참가 인원을 바꾸는 작업은 이 행 잠금을 잡은 트랜잭션 안에서만 한다. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e from Event e where e.id = :id")
+    Optional<Event> findWithLockById(@Param("id") Long id);
+
+    /** 인원 수와 신청 순번은 updatable = false 라서 이 UPDATE 로만 바꾼다. 모임 행 잠금을 잡은 트랜잭션에서 호출한다. */
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("update Event e set e.acceptedCount = e.acceptedCount + :accepted, " +
+            "e.waitingCount = e.waitingCount + :waiting, " +
+            "e.enrollmentSequence = e.enrollmentSequence + :sequence where e.id = :id")
+    int addCounts(@Param("id") Long id, @Param("accepted") int accepted, @Param("waiting") int waiting,
+                  @Param("sequence") int sequence);
 
 }
@@ -0,0 +1,15 @@
+package com.project.modules.event.repository;
+
+import com.project.modules.domain.Study;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDateTime;
+
+public interface EventRepositoryExtension {
+
+    /** 아직 끝나지 않은 모임. 시작일 오름차순으로 after 다음부터 size 개 */
+    Slice<EventSummary> findNewEventSummaries(Study study, LocalDateTime now, EventCursor after, int size);
+
+    /** 끝난 모임. 시작일 내림차순으로 before 다음부터 size 개 */
+    Slice<EventSummary> findOldEventSummaries(Study study, LocalDateTime now, EventCursor before, int size);
+}
@@ -0,0 +1,61 @@
+package com.project.modules.event.repository;
+
+import com.project.modules.domain.Study;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.project.modules.domain.QEvent.event;
+
+@RequiredArgsConstructor
+public class EventRepositoryExtensionImpl implements EventRepositoryExtension {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public Slice<EventSummary> findNewEventSummaries(Study study, LocalDateTime now, EventCursor after, int size) {
+        BooleanExpression afterCursor = after == null ? null
+                : event.startDateTime.gt(after.getStartDateTime())
+                .or(event.startDateTime.eq(after.getStartDateTime()).and(event.id.gt(after.getId())));
+
+        return toSlice(selectSummary()
+                .where(event.study.eq(study), event.endDateTime.goe(now), afterCursor)
+                .orderBy(event.startDateTime.asc(), event.id.asc()), size);
+    }
+
+    @Override
+    public Slice<EventSummary> findOldEventSummaries(Study study, LocalDateTime now, EventCursor before, int size) {
+        BooleanExpression beforeCursor = before == null ? null
+                : event.startDateTime.lt(before.getStartDateTime())
+                .or(event.startDateTime.eq(before.getStartDateTime()).and(event.id.lt(before.getId())));
+
+        return toSlice(selectSummary()
+                .where(event.study.eq(study), event.endDateTime.lt(now), beforeCursor)
+                .orderBy(event.startDateTime.desc(), event.id.desc()), size);
+    }
+
+    private JPAQuery<EventSummary> selectSummary() {
+        return queryFactory.select(Projections.constructor(EventSummary.class,
+                        event.id, event.title, event.startDateTime, event.endDateTime,
+                        event.endEnrollmentDateTime, event.limitOfEnrollments, event.acceptedCount))
+                .from(event);
+    }
+
+    /** size + 1 개를 읽어서 다음 페이지가 있는지 판단한다. count 쿼리는 실행하지 않는다. */
+    private Slice<EventSummary> toSlice(JPAQuery<EventSummary> query, int size) {
+        List<EventSummary> content = query.limit(size + 1).fetch();
+        boolean hasNext = content.size() > size;
+        if (hasNext) {
+            content = content.subList(0, size);
+        }
+        return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
+    }
+}
@@ -0,0 +1,36 @@
+package com.project.modules.event.repository;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 모임 목록에 필요한 컬럼만 담는 projection.
+ * enrollments 를 읽지 않고 Event.acceptedCount 로 남은 자리를 계산한다.
+ */
+@Getter
+public class EventSummary {
+
+    private final Long id;
+    private final String title;
+    private final LocalDateTime startDateTime;
+    private final LocalDateTime endDateTime;
+    private final LocalDateTime endEnrollmentDateTime;
+    private final Integer limitOfEnrollments;
+    private final int acceptedCount;
+
+    public EventSummary(Long id, String title, LocalDateTime startDateTime, LocalDateTime endDateTime,
+                        LocalDateTime endEnrollmentDateTime, Integer limitOfEnrollments, int acceptedCount) {
+        this.id = id;
+        this.title = title;
+        this.startDateTime = startDateTime;
+        this.endDateTime = endDateTime;
+        this.endEnrollmentDateTime = endEnrollmentDateTime;
+        this.limitOfEnrollments = limitOfEnrollments;
+        this.acceptedCount = acceptedCount;
+    }
+
+    public int numberOfRemainSpots() {
+        return this.limitOfEnrollments - this.acceptedCount;
+    }
+}
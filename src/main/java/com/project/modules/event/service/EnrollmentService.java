@@ -3,42 +3,113 @@ package com.project.modules.event.service;
 import com.project.modules.domain.Account;
 import com.project.modules.domain.Enrollment;
 import com.project.modules.domain.Event;
-import com.project.modules.domain.EventType;
 import com.project.modules.event.repository.EnrollmentRepository;
+import com.project.modules.event.repository.EventRepository;
+import com.project.modules.notification.NotificationType;
+import com.project.modules.notification.service.NotificationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
+/**
+ * 모임 참가 신청/취소/수락/거절.
+ * 참가 인원이 바뀌는 작업은 모두 {@link EventLocks} 안에서 실행하므로
+ * 동시에 신청이 몰려도 수락된 인원이 limitOfEnrollments 를 넘지 않는다.
+ */
 @Service
 @RequiredArgsConstructor
 public class EnrollmentService {
 
     private final EnrollmentRepository enrollmentRepository;
+    private final EventRepository eventRepository;
+    private final EventLocks eventLocks;
+    private final NotificationService notificationService;
 
+    public Enrollment enroll(Long eventId, Account account) {
+        return eventLocks.execute(eventId, status -> {
+            Event event = eventRepository.findWithLockById(eventId).orElseThrow();
+            if (event.getEndEnrollmentDateTime().isBefore(LocalDateTime.now())) {
+                throw new IllegalArgumentException("참가 신청이 마감된 모임입니다.");
+            }
+            if (enrollmentRepository.existsByEventAndAccount(event, account)) {
+                throw new IllegalArgumentException("이미 참가 신청한 모임입니다.");
+            }
 
-    public Enrollment enroll(Event event, Account account) {
-        boolean accepted = false;
+            // FCFS 는 남은 자리가 있으면 바로 수락, CONFIRMATIVE 는 관리자가 수락할 때까지 대기
+            boolean accepted = event.isAbleToAcceptWaitingEnrollment();
+            Enrollment enrollment = new Enrollment(event, account, LocalDateTime.now(), accepted, false);
+            event.addEnrollment(enrollment);
+            eventRepository.addCounts(eventId, accepted ? 1 : 0, accepted ? 0 : 1, 1);
+            return enrollmentRepository.save(enrollment);
+        });
+    }
 
-        // FCFS
-        if (isFCFS(event)) {
-            if (event.getNumberOfAcceptedEnrollments() > 0) {
-                accepted = true;
+    public void disenroll(Long eventId, Account account) {
+        eventLocks.execute(eventId, status -> {
+            Event event = eventRepository.findWithLockById(eventId).orElseThrow();
+            Enrollment enrollment = enrollmentRepository.findByEventAndAccount(event, account);
+            if (enrollment == null || enrollment.isAttended()) {
+                return null;
             }
-        }
-        // CONFIRMATIVE
-        if (isCONFIRMATIVE(event)) {
-            accepted = false;
-        }
 
-        return enrollmentRepository.save(new Enrollment(event, account, LocalDateTime.now(), accepted, false));
+            boolean accepted = enrollment.isAccepted();
+            event.removeEnrollment(enrollment);
+            eventRepository.addCounts(eventId, accepted ? -1 : 0, accepted ? 0 : -1, 0);
+            enrollmentRepository.delete(enrollment);
+            acceptNextWaitingEnrollment(event);
+            return null;
+        });
+    }
+
+    public void accept(Long eventId, Long enrollmentId) {
+        eventLocks.execute(eventId, status -> {
+            Event event = eventRepository.findWithLockById(eventId).orElseThrow();
+            Enrollment enrollment = getEnrollment(event, enrollmentId);
+            if (event.accept(enrollment)) {
+                eventRepository.addCounts(eventId, 1, -1, 0);
+                notifyEnrollmentResult(event, enrollment, "모임 참가 신청을 확인했습니다. 모임에 참석하세요.");
+            }
+            return null;
+        });
+    }
+
+    public void reject(Long eventId, Long enrollmentId) {
+        eventLocks.execute(eventId, status -> {
+            Event event = eventRepository.findWithLockById(eventId).orElseThrow();
+            Enrollment enrollment = getEnrollment(event, enrollmentId);
+            if (event.reject(enrollment)) {
+                eventRepository.addCounts(eventId, -1, 1, 0);
+                notifyEnrollmentResult(event, enrollment, "모임 참가 신청을 거절했습니다.");
+            }
+            return null;
+        });
+    }
+
+    private Enrollment getEnrollment(Event event, Long enrollmentId) {
+        Enrollment enrollment = enrollmentRepository.findById(enrollmentId).orElseThrow();
+        if (!event.equals(enrollment.getEvent())) {
+            throw new IllegalArgumentException("해당 모임의 참가 신청이 아닙니다.");
+        }
+        return enrollment;
     }
 
-    private boolean isFCFS(Event event) {
-        return event.getEventType().equals(EventType.FCFS);
+    private void notifyEnrollmentResult(Event event, Enrollment enrollment, String message) {
+        notificationService.createNotifications(List.of(enrollment.getAccount().getId()),
+                event.getStudy().getTitle() + " / " + event.getTitle(),
+                "/study/" + event.getStudy().getEncodedPath() + "/events/" + event.getId(),
+                message, NotificationType.EVENT_ENROLLMENT);
     }
 
-    private boolean isCONFIRMATIVE(Event event) {
-        return event.getEventType().equals(EventType.CONFIRMATIVE);
+    /** 선착순 모임에 자리가 나면 가장 먼저 신청한 대기자를 (event, accepted, waitlistOrdinal) 인덱스로 찾아 수락한다. */
+    private void acceptNextWaitingEnrollment(Event event) {
+        if (event.isAbleToAcceptWaitingEnrollment() && event.getWaitingCount() > 0) {
+            Enrollment next = enrollmentRepository.findFirstByEventAndAcceptedOrderByWaitlistOrdinalAsc(event, false);
+            if (next != null) {
+                event.acceptWaitingEnrollment(next);
+                eventRepository.addCounts(event.getId(), 1, -1, 0);
+            }
+        }
     }
 }
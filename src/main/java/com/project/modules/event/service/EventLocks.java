@@ -0,0 +1,59 @@
+package com.project.modules.event.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 모임별로 참가 신청/취소/수락을 직렬화한다.
+ * 같은 모임에 대한 요청은 JVM 안에서 먼저 줄을 세우고(lock striping), 트랜잭션 안에서는
+ * EventRepository.findWithLockById 로 DB 행 잠금을 잡아 다른 인스턴스와의 경합도 막는다.
+ * 잠금은 커밋이 끝난 뒤에 풀리므로, 다음 요청은 항상 커밋된 참가 인원을 본다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EventLocks {
+
+    private static final int STRIPES = 64;
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Lock[] locks = createLocks();
+
+    public <T> T execute(Long eventId, TransactionCallback<T> callback) {
+        Lock lock = locks[stripe(eventId)];
+        try {
+            if (!lock.tryLock(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해 주세요.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+
+        try {
+            return transactionTemplate.execute(callback);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static int stripe(Long eventId) {
+        int hash = Long.hashCode(eventId);
+        return (hash ^ (hash >>> 16)) & (STRIPES - 1);
+    }
+
+    private static Lock[] createLocks() {
+        Lock[] locks = new Lock[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        return locks;
+    }
+}
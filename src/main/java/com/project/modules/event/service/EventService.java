@@ -5,14 +5,18 @@ import com.project.modules.event.form.EventForm;
 import com.project.modules.event.repository.EnrollmentRepository;
 import com.project.modules.event.repository.EventRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
 import java.time.LocalDateTime;
-import java.util.Collections;
 import java.util.List;
 
+@Slf4j
 @Service
 @Transactional
 @RequiredArgsConstructor
@@ -21,6 +25,7 @@ public class EventService {
     private final EventRepository eventRepository;
     private final ModelMapper modelMapper;
     private final EnrollmentRepository enrollmentRepository;
+    private final EntityManager entityManager;
 
     public Event createEvent(Event event, Study study, Account account) {
         event.setCreatedBy(account);
@@ -30,52 +35,39 @@ public class EventService {
     }
 
     public void updateEvent(Event event, EventForm eventForm) {
+        if (!entityManager.contains(event)) {
+            event = entityManager.find(Event.class, event.getId());
+        }
+        // 컨트롤러에서 읽어 둔 인원 수는 오래됐을 수 있으므로 행 잠금을 잡으면서 다시 읽고 폼을 반영한다.
+        entityManager.refresh(event, LockModeType.PESSIMISTIC_WRITE);
         modelMapper.map(eventForm, event);
         fetchEvent(event);
-        // TODO 테스트 코드를 작성하자
     }
 
-    public void fetchEvent(Event ev) {
-        Event event = eventRepository.findById(ev.getId()).orElseThrow();
-        if (isFCFS(event)) {
-            long cnt = event.getNumberOfAcceptedEnrollments();
-            if (cnt <= 0) return;
-            List<Enrollment> enrollments = event.getEnrollments();
-            Collections.sort(enrollments);
-            for (Enrollment e : enrollments) {
-                if (cnt == 0) break;
-                if (!e.isAccepted()) {
-                    e.setAccepted(true);
-                    enrollmentRepository.save(e);
-                    cnt--;
-                }
-            }
+    /**
+     * 모집 인원이 늘어난 만큼 대기자를 신청 순서대로 수락한다.
+     * 마지막으로 수락할 대기자의 순번을 찾고, 그 순번까지를 UPDATE 한 번으로 수락하므로
+     * 대기자 수와 관계없이 두 번의 쿼리로 끝난다. 호출하는 쪽에서 모임 행 잠금을 잡고 있어야 한다.
+     */
+    public void fetchEvent(Event event) {
+        if (!event.isAbleToAcceptWaitingEnrollment() || event.getWaitingCount() == 0) {
+            return;
         }
-    }
 
-    private boolean isFCFS(Event event) {
-        return event.getEventType().equals(EventType.FCFS);
-    }
+        int numberToAccept = Math.min(event.numberOfRemainSpots(), event.getWaitingCount());
+        List<Long> ordinals = enrollmentRepository.findWaitingOrdinals(event, PageRequest.of(numberToAccept - 1, 1));
+        long lastOrdinal = ordinals.isEmpty() ? Long.MAX_VALUE : ordinals.get(0);
 
-    public void deleteEvent(Event event) {
-        eventRepository.delete(event);
-    }
-
-    public void cancelEnrollment(Event event, Account account) {
-        Enrollment enrollment = enrollmentRepository.findByEventAndAccount(event, account);
-        if (!enrollment.isAttended()) {
-            event.removeEnrollment(enrollment);
-            enrollmentRepository.delete(enrollment);
-            event.acceptNextWaitingEnrollment();
+        int accepted = enrollmentRepository.acceptWaitingEnrollments(event, lastOrdinal);
+        if (accepted != numberToAccept) {
+            log.warn("event {} accepted {} waiting enrollments, expected {}", event.getId(), accepted, numberToAccept);
         }
+        event.acceptWaitingEnrollments(accepted);
+        eventRepository.addCounts(event.getId(), accepted, -accepted, 0);
     }
 
-    public void acceptEnrollment(Event event, Enrollment enrollment) {
-        event.accept(enrollment);
-    }
-
-    public void rejectEnrollment(Event event, Enrollment enrollment) {
-        event.reject(enrollment);
+    public void deleteEvent(Event event) {
+        eventRepository.delete(event);
     }
 
     public void checkInEnrollment(Enrollment enrollment) {
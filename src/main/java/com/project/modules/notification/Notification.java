@@ -9,13 +9,19 @@ import javax.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_notification_account_checked_created", columnList = "account_id, checked, createdLocalDateTime"),
+        // 보관 기간이 지난 읽은 알림 정리(NotificationRetentionJob)는 계정 조건 없이 찾으므로 checked 로 시작하는 인덱스를 따로 둔다.
+        @Index(name = "idx_notification_checked_created", columnList = "checked, createdLocalDateTime")})
 @Getter
 @Setter
 @EqualsAndHashCode(of = "id")
 public class Notification {
 
+    /** 알림은 한 번에 수백~수만 건씩 만들어지므로 id 를 미리 100 개씩 할당받아 INSERT 를 배치로 보낸다. */
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_seq")
+    @SequenceGenerator(name = "notification_seq", sequenceName = "notification_seq", allocationSize = 100)
     private Long id;
 
     private String title;
@@ -0,0 +1,40 @@
+package com.project.modules.notification;
+
+import com.project.modules.account.util.UserAccount;
+import com.project.modules.notification.service.UnreadNotificationCounter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.view.RedirectView;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/** 화면을 그리는 요청에 읽지 않은 알림 수를 넣는다. 값은 UnreadNotificationCounter 캐시에서 읽는다. */
+@Component
+@RequiredArgsConstructor
+public class NotificationInterceptor implements HandlerInterceptor {
+
+    private final UnreadNotificationCounter unreadNotificationCounter;
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (modelAndView != null && !isRedirectView(modelAndView)
+                && authentication != null && authentication.getPrincipal() instanceof UserAccount) {
+            Long accountId = ((UserAccount) authentication.getPrincipal()).getAccountId();
+            long count = unreadNotificationCounter.get(accountId);
+            modelAndView.addObject("numberOfUnreadNotifications", count);
+            modelAndView.addObject("hasNotification", count > 0);
+        }
+    }
+
+    private boolean isRedirectView(ModelAndView modelAndView) {
+        return (modelAndView.getViewName() != null && modelAndView.getViewName().startsWith("redirect:"))
+                || modelAndView.getView() instanceof RedirectView;
+    }
+}
@@ -0,0 +1,75 @@
+package com.project.modules.notification.controller;
+
+import com.project.modules.account.util.CurrentAccount;
+import com.project.modules.account.util.LoginAccount;
+import com.project.modules.notification.Notification;
+import com.project.modules.notification.NotificationType;
+import com.project.modules.notification.repository.NotificationRepository;
+import com.project.modules.notification.service.NotificationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Controller
+@RequiredArgsConstructor
+public class NotificationController {
+
+    private static final int PAGE_SIZE = 20;
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationService notificationService;
+
+    /** 읽지 않은 알림을 최신순으로 한 페이지 보여주고, 보여준 알림은 읽음 처리한다. */
+    @GetMapping("/notifications")
+    public String getNotifications(@CurrentAccount LoginAccount account, Model model) {
+        Page<Notification> notifications = notificationRepository.findByAccountIdAndCheckedOrderByCreatedLocalDateTimeDesc(
+                account.getId(), false, PageRequest.of(0, PAGE_SIZE));
+        long numberOfChecked = notificationRepository.countByAccountIdAndChecked(account.getId(), true);
+        putCategorizedNotifications(model, notifications, notifications.getTotalElements(), numberOfChecked);
+        model.addAttribute("isNew", true);
+        notificationService.markAsRead(account.getId(), notifications.getContent());
+        return "notification/list";
+    }
+
+    @GetMapping("/notifications/old")
+    public String getOldNotifications(@CurrentAccount LoginAccount account, @RequestParam(defaultValue = "0") int page,
+                                      Model model) {
+        Page<Notification> notifications = notificationRepository.findByAccountIdAndCheckedOrderByCreatedLocalDateTimeDesc(
+                account.getId(), true, PageRequest.of(Math.max(page, 0), PAGE_SIZE));
+        long numberOfNotChecked = notificationRepository.countByAccountIdAndChecked(account.getId(), false);
+        putCategorizedNotifications(model, notifications, numberOfNotChecked, notifications.getTotalElements());
+        model.addAttribute("isNew", false);
+        return "notification/list";
+    }
+
+    @DeleteMapping("/notifications")
+    public String deleteNotifications(@CurrentAccount LoginAccount account) {
+        notificationService.deleteChecked(account.getId());
+        return "redirect:/notifications";
+    }
+
+    private void putCategorizedNotifications(Model model, Page<Notification> notifications,
+                                             long numberOfNotChecked, long numberOfChecked) {
+        model.addAttribute("numberOfNotChecked", numberOfNotChecked);
+        model.addAttribute("numberOfChecked", numberOfChecked);
+        model.addAttribute("notificationPage", notifications);
+        model.addAttribute("notifications", notifications.getContent());
+        model.addAttribute("newStudyNotifications", filter(notifications, NotificationType.STUDY_CREATED));
+        model.addAttribute("eventEnrollmentNotifications", filter(notifications, NotificationType.EVENT_ENROLLMENT));
+        model.addAttribute("watchingStudyNotifications", filter(notifications, NotificationType.STUDY_UPDATE));
+    }
+
+    private List<Notification> filter(Page<Notification> notifications, NotificationType notificationType) {
+        return notifications.stream()
+                .filter(notification -> notification.getNotificationType() == notificationType)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,23 @@
+package com.project.modules.notification.controller;
+
+import com.project.modules.account.util.CurrentAccount;
+import com.project.modules.account.util.LoginAccount;
+import com.project.modules.notification.push.NotificationPushRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequiredArgsConstructor
+public class NotificationStreamController {
+
+    private final NotificationPushRegistry notificationPushRegistry;
+
+    /** 새 알림을 Server-Sent Events 로 받는다. */
+    @GetMapping(value = "/notifications/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@CurrentAccount LoginAccount account) {
+        return notificationPushRegistry.subscribe(account.getId());
+    }
+}
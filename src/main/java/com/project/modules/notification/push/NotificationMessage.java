@@ -0,0 +1,17 @@
+package com.project.modules.notification.push;
+
+import com.project.modules.notification.NotificationType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/** SSE 로 내보내는 알림. 화면은 unreadCount 로 뱃지를 갱신한다. */
+@Getter
+@RequiredArgsConstructor
+public class NotificationMessage {
+
+    private final String title;
+    private final String link;
+    private final String message;
+    private final NotificationType notificationType;
+    private final long unreadCount;
+}
@@ -0,0 +1,199 @@
+package com.project.modules.notification.push;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 계정별 SSE 연결 목록.
+ * SseEmitter 는 비동기 서블릿 위에서 동작하므로 열려 있는 연결이 Tomcat 요청 스레드를 잡고 있지 않는다.
+ * 보내는 쪽은 연결마다 최대 BUFFER_SIZE 건짜리 큐에 넣기만 하고(가득 차면 가장 오래된 것을 버린다),
+ * 실제 쓰기는 notificationPushExecutor 가 연결 단위로 한 번에 하나씩 처리한다.
+ * 느린 클라이언트 하나가 알림을 만드는 트랜잭션이나 다른 연결을 막지 않는다.
+ */
+@Slf4j
+@Component
+public class NotificationPushRegistry {
+
+    static final long TIMEOUT_MILLIS = 30 * 60 * 1000L;
+    static final int BUFFER_SIZE = 32;
+    static final int MAX_CONNECTIONS_PER_ACCOUNT = 5;
+    static final int HEARTBEAT_CHUNK_SIZE = 500;
+
+    private final TaskExecutor notificationPushExecutor;
+    private final Map<Long, Set<Connection>> connections = new ConcurrentHashMap<>();
+
+    public NotificationPushRegistry(@Qualifier("notificationPushExecutor") TaskExecutor notificationPushExecutor) {
+        this.notificationPushExecutor = notificationPushExecutor;
+    }
+
+    public SseEmitter subscribe(Long accountId) {
+        return subscribe(accountId, new SseEmitter(TIMEOUT_MILLIS));
+    }
+
+    /** 만들어 둔 emitter 를 계정의 연결로 등록한다. */
+    public SseEmitter subscribe(Long accountId, SseEmitter emitter) {
+        Connection connection = new Connection(accountId, emitter);
+        Set<Connection> accountConnections = connections.computeIfAbsent(accountId, key -> new CopyOnWriteArraySet<>());
+        accountConnections.add(connection);
+        // 탭을 계속 새로 여는 경우를 대비해 계정당 연결 수를 제한한다.
+        while (accountConnections.size() > MAX_CONNECTIONS_PER_ACCOUNT) {
+            accountConnections.stream().findFirst().ifPresent(Connection::close);
+        }
+
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(connection::close);
+        emitter.onError(error -> remove(connection));
+        connection.offer(SseEmitter.event().comment("connected"));
+        return emitter;
+    }
+
+    public void publish(Long accountId, NotificationMessage message) {
+        Set<Connection> accountConnections = connections.get(accountId);
+        if (accountConnections == null) {
+            return;
+        }
+        accountConnections.forEach(connection -> connection.offer(SseEmitter.event()
+                .name("notification")
+                .data(message, MediaType.APPLICATION_JSON)));
+    }
+
+    /**
+     * 프록시나 로드밸런서가 유휴 연결을 끊지 않도록, 그리고 끊어진 연결을 찾아내도록 주석 이벤트를 보낸다.
+     * 연결마다 작업을 만들지 않고 HEARTBEAT_CHUNK_SIZE 개씩 묶어 한 작업에서 보낸다.
+     * 이미 보내는 중인 연결은 살아 있으므로 건너뛴다.
+     */
+    @Scheduled(fixedRate = 25_000)
+    public void heartbeat() {
+        List<Connection> all = new ArrayList<>();
+        connections.values().forEach(all::addAll);
+        for (int from = 0; from < all.size(); from += HEARTBEAT_CHUNK_SIZE) {
+            List<Connection> chunk = all.subList(from, Math.min(from + HEARTBEAT_CHUNK_SIZE, all.size()));
+            try {
+                notificationPushExecutor.execute(() -> chunk.forEach(Connection::heartbeat));
+            } catch (RuntimeException e) {
+                log.warn("notification heartbeat rejected for {} connections", all.size() - from);
+                return;
+            }
+        }
+    }
+
+    public boolean isConnected(Long accountId) {
+        return connections.containsKey(accountId);
+    }
+
+    public int getConnectionCount() {
+        return connections.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private void remove(Connection connection) {
+        connections.computeIfPresent(connection.accountId, (key, accountConnections) -> {
+            accountConnections.remove(connection);
+            return accountConnections.isEmpty() ? null : accountConnections;
+        });
+    }
+
+    private class Connection {
+
+        private final Long accountId;
+        private final SseEmitter emitter;
+        private final Deque<SseEventBuilder> buffer = new ArrayDeque<>(BUFFER_SIZE);
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        Connection(Long accountId, SseEmitter emitter) {
+            this.accountId = accountId;
+            this.emitter = emitter;
+        }
+
+        void offer(SseEventBuilder event) {
+            synchronized (buffer) {
+                if (buffer.size() == BUFFER_SIZE) {
+                    buffer.pollFirst();
+                }
+                buffer.offerLast(event);
+            }
+            schedule();
+        }
+
+        /** 보내는 작업이 없으면 하나 띄운다. 풀이 받지 않으면 다음 offer 나 heartbeat 때 다시 띄운다. */
+        private void schedule() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    notificationPushExecutor.execute(this::drain);
+                } catch (RuntimeException e) {
+                    draining.set(false);
+                    log.warn("notification push rejected for account {}", accountId);
+                }
+            }
+        }
+
+        /** 보내는 중이 아니면 이 스레드에서 바로 heartbeat 를 보낸다. */
+        void heartbeat() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            } catch (IOException | IllegalStateException e) {
+                close();
+                return;
+            } finally {
+                draining.set(false);
+            }
+            if (hasPending()) {
+                schedule();
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEventBuilder event;
+                while ((event = poll()) != null) {
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                close();
+                return;
+            } finally {
+                draining.set(false);
+            }
+            // drain 이 끝나는 사이에 들어온 이벤트가 있으면 다시 보낸다.
+            if (hasPending()) {
+                schedule();
+            }
+        }
+
+        private SseEventBuilder poll() {
+            synchronized (buffer) {
+                return buffer.pollFirst();
+            }
+        }
+
+        private boolean hasPending() {
+            synchronized (buffer) {
+                return !buffer.isEmpty();
+            }
+        }
+
+        void close() {
+            remove(this);
+            emitter.complete();
+        }
+    }
+}
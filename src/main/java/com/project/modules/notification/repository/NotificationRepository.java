@@ -0,0 +1,43 @@
+package com.project.modules.notification.repository;
+
+import com.project.modules.notification.Notification;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Transactional(readOnly = true)
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+
+    Page<Notification> findByAccountIdAndCheckedOrderByCreatedLocalDateTimeDesc(Long accountId, boolean checked, Pageable pageable);
+
+    long countByAccountIdAndChecked(Long accountId, boolean checked);
+
+    /** 보여준 알림을 한 번에 읽음 처리한다. 이미 읽은 알림은 세지 않으므로 반환값만큼 읽지 않은 수가 줄어든다. */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Notification n set n.checked = true " +
+            "where n.account.id = :accountId and n.id in :ids and n.checked = false")
+    int markAsRead(@Param("accountId") Long accountId, @Param("ids") List<Long> ids);
+
+    @Transactional
+    @Modifying
+    @Query("delete from Notification n where n.account.id = :accountId and n.checked = true")
+    int deleteChecked(@Param("accountId") Long accountId);
+
+    /** idx_notification_checked_created 순서대로 읽으므로 정렬 없이 앞에서부터 chunk 만큼만 읽는다. */
+    @Query("select n.id from Notification n where n.checked = true and n.createdLocalDateTime < :before " +
+            "order by n.createdLocalDateTime")
+    List<Long> findCheckedIdsBefore(@Param("before") LocalDateTime before, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("delete from Notification n where n.id in :ids")
+    int deleteByIds(@Param("ids") List<Long> ids);
+}
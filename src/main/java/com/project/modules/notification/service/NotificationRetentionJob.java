@@ -0,0 +1,44 @@
+package com.project.modules.notification.service;
+
+import com.project.modules.notification.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 보관 기간이 지난 읽은 알림을 지운다.
+ * 한 번에 CHUNK_SIZE 건씩 각각의 트랜잭션으로 지워서 긴 잠금과 큰 undo 로그를 만들지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationRetentionJob {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final NotificationRepository notificationRepository;
+
+    @Value("${app.notification.retention-days:30}")
+    private int retentionDays;
+
+    @Scheduled(cron = "${app.notification.retention-cron:0 0 4 * * *}")
+    public void purge() {
+        LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+        PageRequest chunk = PageRequest.of(0, CHUNK_SIZE);
+        int deleted = 0;
+        List<Long> ids;
+        do {
+            ids = notificationRepository.findCheckedIdsBefore(before, chunk);
+            if (!ids.isEmpty()) {
+                deleted += notificationRepository.deleteByIds(ids);
+            }
+        } while (ids.size() == CHUNK_SIZE);
+        log.info("purged {} checked notifications created before {}", deleted, before);
+    }
+}
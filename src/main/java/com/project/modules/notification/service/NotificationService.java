@@ -0,0 +1,86 @@
+package com.project.modules.notification.service;
+
+import com.project.modules.domain.Account;
+import com.project.modules.notification.Notification;
+import com.project.modules.notification.NotificationType;
+import com.project.modules.notification.push.NotificationMessage;
+import com.project.modules.notification.push.NotificationPushRegistry;
+import com.project.modules.notification.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class NotificationService {
+
+    private final EntityManager entityManager;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final NotificationRepository notificationRepository;
+    private final NotificationPushRegistry notificationPushRegistry;
+
+    /**
+     * 같은 내용의 알림을 여러 계정에 만든다. Account 는 프록시 참조만 쓰고,
+     * 호출 단위(hibernate.jdbc.batch_size 와 같은 100 건)마다 flush/clear 해서 영속성 컨텍스트가 커지지 않게 한다.
+     * 커밋되면 접속 중인 계정에게 SSE 로 알린다.
+     */
+    public void createNotifications(List<Long> accountIds, String title, String link, String message,
+                                    NotificationType notificationType) {
+        LocalDateTime now = LocalDateTime.now();
+        for (Long accountId : accountIds) {
+            Notification notification = new Notification();
+            notification.setTitle(title);
+            notification.setLink(link);
+            notification.setMessage(message);
+            notification.setChecked(false);
+            notification.setAccount(entityManager.getReference(Account.class, accountId));
+            notification.setCreatedLocalDateTime(now);
+            notification.setNotificationType(notificationType);
+            entityManager.persist(notification);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        unreadNotificationCounter.increment(accountIds);
+        push(List.copyOf(accountIds), title, link, message, notificationType);
+    }
+
+    private void push(List<Long> accountIds, String title, String link, String message,
+                      NotificationType notificationType) {
+        Runnable task = () -> accountIds.stream()
+                .filter(notificationPushRegistry::isConnected)
+                .forEach(accountId -> notificationPushRegistry.publish(accountId,
+                        new NotificationMessage(title, link, message, notificationType, unreadNotificationCounter.get(accountId))));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    /** 화면에 보여준 알림을 UPDATE 한 번으로 읽음 처리한다. */
+    public void markAsRead(Long accountId, List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        List<Long> ids = notifications.stream().map(Notification::getId).collect(Collectors.toList());
+        int updated = notificationRepository.markAsRead(accountId, ids);
+        unreadNotificationCounter.decrement(accountId, updated);
+    }
+
+    public void deleteChecked(Long accountId) {
+        notificationRepository.deleteChecked(accountId);
+    }
+}
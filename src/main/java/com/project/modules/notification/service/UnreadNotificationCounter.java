@@ -0,0 +1,128 @@
+package com.project.modules.notification.service;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.project.modules.notification.QNotification.notification;
+
+/**
+ * 계정별 읽지 않은 알림 수 캐시. 모든 화면의 알림 뱃지가 이 값을 쓰므로 요청마다 count 쿼리를 보내지 않는다.
+ * 처음 조회할 때만 DB 에서 세고, 이후에는 알림 생성/읽음 처리 시 커밋 이후에 증감한다.
+ * 주기적으로 최근 조회된 계정만 DB 값으로 맞추고, 그 사이 조회되지 않은 계정은 캐시에서 뺀다.
+ * 맞출 때는 값을 바꿔 끼우지 않고 DB 값과 조회 직전 값의 차이만 더하므로, 그 사이에 들어온 증감이 사라지지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnreadNotificationCounter {
+
+    private static final int RECONCILE_CHUNK_SIZE = 1000;
+
+    private final JPAQueryFactory queryFactory;
+
+    private final Map<Long, LongAdder> counts = new ConcurrentHashMap<>();
+    private final Set<Long> recentlyRead = ConcurrentHashMap.newKeySet();
+
+    public long get(Long accountId) {
+        recentlyRead.add(accountId);
+        LongAdder count = counts.get(accountId);
+        if (count == null) {
+            count = counts.computeIfAbsent(accountId, this::load);
+        }
+        return Math.max(0, count.sum());
+    }
+
+    public void increment(Collection<Long> accountIds) {
+        List<Long> ids = List.copyOf(accountIds);
+        afterCommit(() -> ids.forEach(accountId -> add(accountId, 1)));
+    }
+
+    public void decrement(Long accountId, long amount) {
+        afterCommit(() -> add(accountId, -amount));
+    }
+
+    /** 캐시에 없는 계정은 다음 조회 때 DB 에서 세므로 건드리지 않는다. */
+    private void add(Long accountId, long amount) {
+        LongAdder count = counts.get(accountId);
+        if (count != null) {
+            count.add(amount);
+        }
+    }
+
+    private LongAdder load(Long accountId) {
+        LongAdder adder = new LongAdder();
+        adder.add(countUnread(accountId));
+        return adder;
+    }
+
+    protected long countUnread(Long accountId) {
+        Long count = queryFactory.select(notification.count())
+                .from(notification)
+                .where(notification.account.id.eq(accountId), notification.checked.isFalse())
+                .fetchOne();
+        return count == null ? 0 : count;
+    }
+
+    protected Map<Long, Long> countUnread(List<Long> accountIds) {
+        Map<Long, Long> actual = new HashMap<>();
+        for (Tuple tuple : queryFactory.select(notification.account.id, notification.count())
+                .from(notification)
+                .where(notification.account.id.in(accountIds), notification.checked.isFalse())
+                .groupBy(notification.account.id)
+                .fetch()) {
+            actual.put(tuple.get(notification.account.id), tuple.get(notification.count()));
+        }
+        return actual;
+    }
+
+    @Transactional(readOnly = true)
+    @Scheduled(fixedDelayString = "${app.notification.reconcile-interval:300000}")
+    public void reconcile() {
+        counts.keySet().retainAll(recentlyRead);
+        List<Long> accountIds = new ArrayList<>(counts.keySet());
+        recentlyRead.clear();
+
+        for (int from = 0; from < accountIds.size(); from += RECONCILE_CHUNK_SIZE) {
+            List<Long> chunk = accountIds.subList(from, Math.min(from + RECONCILE_CHUNK_SIZE, accountIds.size()));
+            Map<Long, Long> before = new HashMap<>();
+            chunk.forEach(accountId -> {
+                LongAdder count = counts.get(accountId);
+                if (count != null) {
+                    before.put(accountId, count.sum());
+                }
+            });
+            Map<Long, Long> actual = countUnread(chunk);
+            before.forEach((accountId, cached) -> add(accountId, actual.getOrDefault(accountId, 0L) - cached));
+        }
+        log.debug("unread notification counts reconciled: {} accounts", accountIds.size());
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
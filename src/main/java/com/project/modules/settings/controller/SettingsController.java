@@ -1,7 +1,5 @@
 package com.project.modules.settings.controller;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.project.modules.account.service.AccountService;
 import com.project.modules.account.util.CurrentAccount;
 import com.project.modules.domain.Account;
@@ -12,11 +10,13 @@ import com.project.modules.settings.form.Notifications;
 import com.project.modules.settings.form.PasswordForm;
 import com.project.modules.settings.form.Profile;
 import com.project.modules.zone.form.ZoneForm;
-import com.project.modules.zone.repository.ZoneRepository;
+import com.project.modules.zone.service.ZoneCatalog;
 import com.project.modules.settings.validator.NicknameValidator;
 import com.project.modules.settings.validator.PasswordFormValidator;
+import com.project.modules.settings.validator.ProfileValidator;
 import com.project.modules.tag.form.TagForm;
 import com.project.modules.tag.repository.TagRepository;
+import com.project.modules.tag.service.TagCatalog;
 import com.project.modules.tag.service.TagService;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
@@ -29,7 +29,6 @@ import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
-import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -48,6 +47,11 @@ public class SettingsController {
         webDataBinder.addValidators(nicknameValidator);
     }
 
+    @InitBinder("profile")
+    public void initBinder_profile(WebDataBinder webDataBinder) {
+        webDataBinder.addValidators(profileValidator);
+    }
+
     static final String PROFILE_VIEW = "settings/profile";
     static final String PASSWORD_VIEW = "settings/password";
     static final String NOTIFICATIONS_VIEW = "settings/notifications";
@@ -58,10 +62,11 @@ public class SettingsController {
     private final AccountService accountService;
     private final ModelMapper modelMapper;
     private final NicknameValidator nicknameValidator;
+    private final ProfileValidator profileValidator;
     private final TagRepository tagRepository;
-    private final ObjectMapper objectMapper;
     private final TagService tagService;
-    private final ZoneRepository zoneRepository;
+    private final TagCatalog tagCatalog;
+    private final ZoneCatalog zoneCatalog;
 
     /** Profile 폼/수정 */
     @GetMapping("/profile")
@@ -164,13 +169,12 @@ public class SettingsController {
 
     /** Tag 폼/추가/삭제 */
     @GetMapping("/tags")
-    public String updateTagsForm(@CurrentAccount Account account, Model model) throws JsonProcessingException {
+    public String updateTagsForm(@CurrentAccount Account account, Model model) {
         model.addAttribute(account);
         Set<Tag> tags = accountService.getTags(account);
         model.addAttribute("tags", tags.stream().map(Tag::getTitle).collect(Collectors.toList()));
 
-        List<String> allTags = tagRepository.findAll().stream().map(Tag::getTitle).collect(Collectors.toList());
-        model.addAttribute("whitelist", objectMapper.writeValueAsString(allTags));
+        model.addAttribute("whitelistUrl", tagCatalog.getWhitelistUrl());
 
         return TAGS_VIEW;
     }
@@ -201,21 +205,20 @@ public class SettingsController {
 
     /** Zone 폼/추가/삭제 */
     @GetMapping("/zones")
-    public String updateZonesForm(@CurrentAccount Account account, Model model) throws JsonProcessingException {
+    public String updateZonesForm(@CurrentAccount Account account, Model model) {
         model.addAttribute(account);
 
         Set<Zone> zones = accountService.getZones(account);
         model.addAttribute("zones", zones.stream().map(Zone::toString).collect(Collectors.toList()));
 
-        List<String> allZones = zoneRepository.findAll().stream().map(Zone::toString).collect(Collectors.toList());
-        model.addAttribute("whitelist", objectMapper.writeValueAsString(allZones));
+        model.addAttribute("whitelist", zoneCatalog.getWhitelist());
         return ZONES_VIEW;
     }
 
     @PostMapping("/zones/add")
     @ResponseBody
     public ResponseEntity addZones(@CurrentAccount Account account, @RequestBody ZoneForm zoneForm) {
-        Zone zone = zoneRepository.findByCityAndProvince(zoneForm.getCityName(), zoneForm.getProvinceName());
+        Zone zone = zoneCatalog.findByDisplayName(zoneForm.getZoneName());
         if (zone == null) {
             return ResponseEntity.badRequest().build();
         }
@@ -226,7 +229,7 @@ public class SettingsController {
     @PostMapping("/zones/remove")
     @ResponseBody
     public ResponseEntity removeZones(@CurrentAccount Account account, @RequestBody ZoneForm zoneForm) {
-        Zone zone = zoneRepository.findByCityAndProvince(zoneForm.getCityName(), zoneForm.getProvinceName());
+        Zone zone = zoneCatalog.findByDisplayName(zoneForm.getZoneName());
         if (zone == null) {
             return ResponseEntity.badRequest().build();
         }
@@ -0,0 +1,28 @@
+package com.project.modules.settings.validator;
+
+import com.project.infra.image.ImageStore;
+import com.project.modules.settings.form.Profile;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+
+@Component
+@RequiredArgsConstructor
+public class ProfileValidator implements Validator {
+
+    private final ImageStore imageStore;
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return Profile.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        Profile profile = (Profile) target;
+        if (!imageStore.isAcceptable(profile.getProfileImage())) {
+            errors.rejectValue("profileImage", "wrong.value", "업로드한 이미지만 사용할 수 있습니다.");
+        }
+    }
+}
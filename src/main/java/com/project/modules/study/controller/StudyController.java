@@ -9,6 +9,7 @@ import com.project.modules.study.validator.StudyFormValidator;
 import com.project.modules.study.service.StudyService;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.Errors;
@@ -17,15 +18,19 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.InitBinder;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import javax.validation.Valid;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 @Controller
 @RequiredArgsConstructor
 public class StudyController {
 
+    private static final int MEMBERS_SIZE = 20;
+
     private final StudyRepository studyRepository;
     private final StudyService studyService;
     private final ModelMapper modelMapper;
@@ -62,21 +67,31 @@ public class StudyController {
     @GetMapping("/study/{path}")
     public String viewStudy(@CurrentAccount Account account, @PathVariable String path, Model model) {
         model.addAttribute(account);
-        model.addAttribute("study", studyRepository.findByPath(path));
+        model.addAttribute("study", studyRepository.findStudyWithTagsAndZonesByPath(path));
         return "study/view";
     }
 
     /** 스터디 회원 조회 */
     @GetMapping("/study/{path}/members")
-    public String viewStudyMembers(@CurrentAccount Account account, @PathVariable String path, Model model) {
+    public String viewStudyMembers(@CurrentAccount Account account, @PathVariable String path,
+                                   @RequestParam(required = false) Long after, Model model) {
+        // 매니저는 몇 명 되지 않으므로 함께 읽고, 멤버는 계정 id 커서로 나눠서 읽는다.
+        Study study = studyRepository.findStudyWithStatusByPath(path);
+        Slice<Account> members = studyRepository.findMembers(study, after, MEMBERS_SIZE);
         model.addAttribute(account);
-        model.addAttribute("study", studyRepository.findByPath(path));
+        model.addAttribute("study", study);
+        model.addAttribute("members", members);
+        model.addAttribute("after", after);
+        if (members.hasNext()) {
+            List<Account> content = members.getContent();
+            model.addAttribute("nextAfter", content.get(content.size() - 1).getId());
+        }
         return "study/members";
     }
 
     @GetMapping("/study/{path}/join")
     public String joinStudy(@CurrentAccount Account account, @PathVariable String path) {
-        Study study = studyRepository.findStudyWithMemberByPath(path);
+        Study study = studyRepository.findStudyOnlyByPath(path);
         studyService.addMember(study, account);
 
         return "redirect:/study/" + study.getEncodedPath();
@@ -84,7 +99,7 @@ public class StudyController {
 
     @GetMapping("/study/{path}/leave")
     public String leaveStudy(@CurrentAccount Account account, @PathVariable String path) {
-        Study study = studyRepository.findStudyWithMemberByPath(path);
+        Study study = studyRepository.findStudyOnlyByPath(path);
         studyService.removeMember(study, account);
 
         return "redirect:/study/" + study.getEncodedPath();
@@ -0,0 +1,38 @@
+package com.project.modules.study.controller;
+
+import com.project.modules.account.util.CurrentAccount;
+import com.project.modules.account.util.LoginAccount;
+import com.project.modules.domain.Study;
+import com.project.modules.study.service.StudyService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+
+@Controller
+@RequiredArgsConstructor
+public class StudySearchController {
+
+    private final StudyService studyService;
+
+    /** 스터디 검색 */
+    @GetMapping("/search/study")
+    public String searchStudy(@CurrentAccount LoginAccount account, String keyword, Model model,
+                              @PageableDefault(size = 9, sort = "publishedDateTime", direction = Sort.Direction.DESC)
+                                      Pageable pageable) {
+        if (account != null) {
+            model.addAttribute("account", account);
+        }
+
+        Page<Study> studyPage = studyService.searchStudy(keyword, pageable);
+        model.addAttribute("studyPage", studyPage);
+        model.addAttribute("keyword", keyword);
+        model.addAttribute("sortProperty",
+                pageable.getSort().getOrderFor("memberCount") != null ? "memberCount" : "publishedDateTime");
+        return "search";
+    }
+}
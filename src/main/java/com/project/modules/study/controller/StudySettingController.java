@@ -1,16 +1,16 @@
 package com.project.modules.study.controller;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.infra.image.ImageStore;
 import com.project.modules.account.util.CurrentAccount;
 import com.project.modules.domain.Account;
 import com.project.modules.domain.Study;
 import com.project.modules.domain.Tag;
 import com.project.modules.domain.Zone;
 import com.project.modules.tag.repository.TagRepository;
+import com.project.modules.tag.service.TagCatalog;
 import com.project.modules.tag.service.TagService;
 import com.project.modules.zone.form.ZoneForm;
-import com.project.modules.zone.repository.ZoneRepository;
+import com.project.modules.zone.service.ZoneCatalog;
 import com.project.modules.zone.service.ZoneService;
 import com.project.modules.study.form.StudyDescriptionForm;
 import com.project.modules.study.service.StudyService;
@@ -28,7 +28,6 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 import javax.validation.Valid;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
-import java.util.List;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -40,10 +39,11 @@ public class StudySettingController {
     private final StudyService studyService;
     private final ModelMapper modelMapper;
     private final TagRepository tagRepository;
-    private final ObjectMapper objectMapper;
     private final TagService tagService;
-    private final ZoneRepository zoneRepository;
+    private final TagCatalog tagCatalog;
+    private final ZoneCatalog zoneCatalog;
     private final ZoneService zoneService;
+    private final ImageStore imageStore;
 
     // URL encoding
     private String getPath(String path) {
@@ -94,6 +94,10 @@ public class StudySettingController {
     public String studyImageSubmit(@CurrentAccount Account account, @PathVariable String path,
                                    String image, RedirectAttributes attributes) {
         Study study = studyService.getStudyToUpdate(account, path);
+        if (!imageStore.isAcceptable(image)) {
+            attributes.addFlashAttribute("message", "업로드한 이미지만 사용할 수 있습니다.");
+            return "redirect:/study/" + getPath(path) + "/settings/banner";
+        }
         studyService.updateStudyImage(study, image);
         attributes.addFlashAttribute("message", "스터디 이미지를 수정했습니다.");
         return "redirect:/study/" + getPath(path) + "/settings/banner";
@@ -117,14 +121,13 @@ public class StudySettingController {
      * 태그 폼/추가/삭제
      */
     @GetMapping("/tags")
-    public String studyTagsForm(@CurrentAccount Account account, @PathVariable String path, Model model) throws JsonProcessingException {
+    public String studyTagsForm(@CurrentAccount Account account, @PathVariable String path, Model model) {
         Study study = studyService.getStudyToUpdateTag(account, path);
         model.addAttribute(account);
         model.addAttribute(study);
 
         model.addAttribute("tags", study.getTags().stream().map(Tag::getTitle).collect(Collectors.toList()));
-        List<String> allTags = tagRepository.findAll().stream().map(Tag::getTitle).collect(Collectors.toList());
-        model.addAttribute("whitelist", objectMapper.writeValueAsString(allTags));
+        model.addAttribute("whitelistUrl", tagCatalog.getWhitelistUrl());
         return "study/settings/tags";
     }
 
@@ -154,14 +157,13 @@ public class StudySettingController {
      * 지역 폼/추가/삭제
      */
     @GetMapping("/zones")
-    public String studyZonesForm(@CurrentAccount Account account, @PathVariable String path, Model model) throws JsonProcessingException {
+    public String studyZonesForm(@CurrentAccount Account account, @PathVariable String path, Model model) {
         Study study = studyService.getStudyToUpdateZone(account, path);
         model.addAttribute(account);
         model.addAttribute(study);
 
         model.addAttribute("zones", study.getZones().stream().map(Zone::toString).collect(Collectors.toList()));
-        List<String> allZones = zoneRepository.findAll().stream().map(Zone::toString).collect(Collectors.toList());
-        model.addAttribute("whitelist", objectMapper.writeValueAsString(allZones));
+        model.addAttribute("whitelist", zoneCatalog.getWhitelist());
         return "study/settings/zones";
     }
 
@@ -169,7 +171,7 @@ public class StudySettingController {
     @ResponseBody
     public ResponseEntity addZone(@CurrentAccount Account account, @PathVariable String path, @RequestBody ZoneForm zoneForm) {
         Study study = studyService.getStudyToUpdateZone(account, path);
-        Zone zone = zoneRepository.findByCityAndProvince(zoneForm.getCityName(), zoneForm.getProvinceName());
+        Zone zone = zoneCatalog.findByDisplayName(zoneForm.getZoneName());
         if (zone == null) {
             return ResponseEntity.badRequest().build();
         }
@@ -182,7 +184,7 @@ public class StudySettingController {
     @ResponseBody
     public ResponseEntity removeZone(@CurrentAccount Account account, @PathVariable String path, @RequestBody ZoneForm zoneForm) {
         Study study = studyService.getStudyToUpdateZone(account, path);
-        Zone zone = zoneRepository.findByCityAndProvince(zoneForm.getCityName(), zoneForm.getProvinceName());
+        Zone zone = zoneCatalog.findByDisplayName(zoneForm.getZoneName());
         if (zone == null) {
             return ResponseEntity.badRequest().build();
         }
@@ -1,23 +1,35 @@
 package com.project.modules.study.event;
 
-import com.project.modules.account.repository.AccountRepository;
-import com.project.modules.domain.*;
+import com.project.infra.mail.EmailMessage;
+import com.project.infra.mail.EmailService;
+import com.project.infra.mail.EmailType;
+import com.project.infra.mail.SimpleLinkMailRenderer;
+import com.project.modules.account.service.AccountInterestIndex;
+import com.project.modules.account.service.AccountInterestIndex.Recipients;
+import com.project.modules.domain.Study;
+import com.project.modules.domain.Tag;
+import com.project.modules.domain.Zone;
+import com.project.modules.notification.NotificationType;
+import com.project.modules.notification.service.NotificationService;
 import com.project.modules.study.repository.StudyRepository;
 import com.querydsl.core.Tuple;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
+import org.hibernate.jpa.QueryHints;
+import org.roaringbitmap.longlong.LongIterator;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.project.modules.domain.QAccount.account;
-import static com.project.modules.domain.QTag.tag;
-import static com.project.modules.domain.QZone.zone;
 
 @Slf4j
 @Async
@@ -26,24 +38,126 @@ import static com.project.modules.domain.QZone.zone;
 @RequiredArgsConstructor
 public class StudyEventListener {
 
+    /** 알림 INSERT 배치 크기. hibernate.jdbc.batch_size 와 같게 둔다. */
+    private static final int BATCH_SIZE = 100;
+
     private final StudyRepository studyRepository;
-    private final AccountRepository accountRepository;
     private final JPAQueryFactory queryFactory;
+    private final NotificationService notificationService;
+    private final EmailService emailService;
+    private final SimpleLinkMailRenderer simpleLinkMailRenderer;
+    private final AccountInterestIndex accountInterestIndex;
 
-    @EventListener
+    /**
+     * 스터디가 공개되면 관심 주제와 활동 지역이 모두 겹치는 계정에게 알린다.
+     * 대상은 AccountInterestIndex 의 비트맵 연산으로 구하고, 색인이 준비되기 전에는
+     * 필요한 컬럼만 커서로 흘려 읽는 DB 쿼리로 구한다. 웹 알림은 BATCH_SIZE 건씩 저장한다.
+     */
+    @Transactional
+    @TransactionalEventListener
     public void handleStudyCreateEvent(StudyCreatedEvent studyCreateEvent) {
         Study study = studyRepository.findStudyWithTagsAndZonesById(studyCreateEvent.getStudy().getId());
-//        Set<Zone> zones = study.getZones();
-//         study.getTags().stream().forEach(Tag::getTitle);
-//        List<Account> accounts = queryFactory.select(account)
-//                .from(account)
-//                .join(tag)
-//                .join(zone)
-//                .where(tag.title.in(tags).or(zone.in(zones))).fetch();
-//
-//        accounts.forEach(acc -> {
-//            if (account.isStudyCreatedfdsf)
-//        });
+        if (study.getTags().isEmpty() || study.getZones().isEmpty()) {
+            return;
+        }
+
+        StudyCreatedNotifier notifier = new StudyCreatedNotifier(study);
+        if (accountInterestIndex.isReady()) {
+            Recipients recipients = accountInterestIndex.findStudyCreatedRecipients(
+                    study.getTags().stream().map(Tag::getId).collect(Collectors.toSet()),
+                    study.getZones().stream().map(Zone::getId).collect(Collectors.toSet()));
+            recipients.getByWeb().forEach(notifier::notifyByWeb);
+            notifier.flush();
+            notifyByEmail(notifier, recipients.getByEmail());
+        } else {
+            notifyFromDatabase(study, notifier);
+        }
+        log.info("study {} published: {} web notifications, {} emails", study.getId(), notifier.webCount, notifier.emailCount);
+    }
+
+    private void notifyByEmail(StudyCreatedNotifier notifier, Roaring64NavigableMap accountIds) {
+        List<Long> chunk = new ArrayList<>(BATCH_SIZE);
+        LongIterator iterator = accountIds.getLongIterator();
+        while (iterator.hasNext()) {
+            chunk.add(iterator.next());
+            if (chunk.size() == BATCH_SIZE || !iterator.hasNext()) {
+                queryFactory.select(account.email, account.nickname)
+                        .from(account)
+                        .where(account.id.in(chunk))
+                        .fetch()
+                        .forEach(tuple -> notifier.notifyByEmail(tuple.get(account.email), tuple.get(account.nickname)));
+                chunk.clear();
+            }
+        }
+    }
+
+    private void notifyFromDatabase(Study study, StudyCreatedNotifier notifier) {
+        List<Tuple> emailRecipients = new ArrayList<>();
+        try (Stream<Tuple> accounts = queryFactory
+                .select(account.id, account.email, account.nickname, account.studyCreatedByWeb, account.studyCreatedByEmail)
+                .from(account)
+                .where(account.tags.any().in(study.getTags()),
+                        account.zones.any().in(study.getZones()),
+                        account.studyCreatedByWeb.isTrue().or(account.studyCreatedByEmail.isTrue()))
+                .setHint(QueryHints.HINT_FETCH_SIZE, BATCH_SIZE)
+                .stream()) {
+            accounts.forEach(tuple -> {
+                if (Boolean.TRUE.equals(tuple.get(account.studyCreatedByWeb))) {
+                    notifier.notifyByWeb(tuple.get(account.id));
+                }
+                if (Boolean.TRUE.equals(tuple.get(account.studyCreatedByEmail))) {
+                    emailRecipients.add(tuple);
+                }
+            });
+        }
+        notifier.flush();
+        emailRecipients.forEach(tuple -> notifier.notifyByEmail(tuple.get(account.email), tuple.get(account.nickname)));
+    }
+
+    /** 스터디 하나에 대한 알림을 모아서 보낸다. 웹 알림은 BATCH_SIZE 건이 차면 저장한다. */
+    private class StudyCreatedNotifier {
+
+        private final String title;
+        private final String link;
+        private final String message;
+        private final List<Long> webRecipients = new ArrayList<>(BATCH_SIZE);
+        private int webCount;
+        private int emailCount;
+        private SimpleLinkMailRenderer.Prepared email;
+
+        StudyCreatedNotifier(Study study) {
+            this.title = study.getTitle();
+            this.link = "/study/" + study.getEncodedPath();
+            this.message = study.getShortDescription();
+        }
+
+        void notifyByWeb(long accountId) {
+            webRecipients.add(accountId);
+            if (webRecipients.size() == BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (!webRecipients.isEmpty()) {
+                notificationService.createNotifications(webRecipients, title, link, message, NotificationType.STUDY_CREATED);
+                webCount += webRecipients.size();
+                webRecipients.clear();
+            }
+        }
 
+        /** 메일 본문은 받는 사람 이름만 다르므로 템플릿은 처음 한 번만 렌더링한다. */
+        void notifyByEmail(String to, String nickname) {
+            if (email == null) {
+                email = simpleLinkMailRenderer.prepare(title, "새로운 스터디가 생겼습니다.");
+            }
+            emailService.send(EmailMessage.builder()
+                    .to(to)
+                    .subject("스터디올래, '" + title + "' 스터디가 생겼습니다.")
+                    .message(email.render(nickname, link))
+                    .type(EmailType.STUDY_CREATED)
+                    .build());
+            emailCount++;
+        }
     }
 }
@@ -1,12 +1,20 @@
 package com.project.modules.study.repository;
 
 import com.project.modules.domain.Study;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+
 @Transactional(readOnly = true)
-public interface StudyRepository extends JpaRepository<Study, Long> {
+public interface StudyRepository extends JpaRepository<Study, Long>, StudyRepositoryExtension {
 
     boolean existsByPath(String path);
 
@@ -22,14 +30,45 @@ public interface StudyRepository extends JpaRepository<Study, Long> {
     @EntityGraph(value = "Study.withStatusAndManagers", type= EntityGraph.EntityGraphType.FETCH)
     Study findStudyWithStatusByPath(String path);
 
-    @EntityGraph(value = "Study.withMembersAndManagers", type = EntityGraph.EntityGraphType.FETCH)
-    Study findStudyWithMemberByPath(String path);
-
     @EntityGraph(value = "Study.withStudy", type = EntityGraph.EntityGraphType.FETCH)
     boolean existsByTitle(String newTitle);
 
+    /** 가입/탈퇴처럼 컬렉션이 필요 없는 곳에서 쓰는, 연관을 읽지 않는 조회. */
     Study findStudyOnlyByPath(String path);
 
     @EntityGraph(value = "Study.withTagsAndZones", type = EntityGraph.EntityGraphType.FETCH)
     Study findStudyWithTagsAndZonesById(Long id);
+
+    @EntityGraph(value = "Study.withTagsAndZones", type = EntityGraph.EntityGraphType.FETCH)
+    List<Study> findStudyWithTagsAndZonesByIdIn(Collection<Long> ids);
+
+    @EntityGraph(value = "Study.withTagsAndZones", type = EntityGraph.EntityGraphType.FETCH)
+    List<Study> findStudyWithTagsAndZonesByPublished(boolean published);
+
+    @EntityGraph(value = "Study.withTagsAndZones", type = EntityGraph.EntityGraphType.FETCH)
+    Study findStudyWithTagsAndZonesByPath(String path);
+
+    boolean existsByIdAndManagersId(Long id, Long accountId);
+
+    boolean existsByIdAndMembersId(Long id, Long accountId);
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query(value = "insert into study_members (study_id, members_id) values (:id, :accountId)", nativeQuery = true)
+    int addMember(@Param("id") Long id, @Param("accountId") Long accountId);
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query(value = "delete from study_members where study_id = :id and members_id = :accountId", nativeQuery = true)
+    int removeMember(@Param("id") Long id, @Param("accountId") Long accountId);
+
+    Page<Study> findByPublished(boolean published, Pageable pageable);
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("update Study s set s.memberCount = s.memberCount + :delta where s.id = :id")
+    int addMemberCount(@Param("id") Long id, @Param("delta") int delta);
+
+    @Query("select s.memberCount from Study s where s.id = :id")
+    int findMemberCountById(@Param("id") Long id);
 }
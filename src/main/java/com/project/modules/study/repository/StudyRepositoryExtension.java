@@ -0,0 +1,11 @@
+package com.project.modules.study.repository;
+
+import com.project.modules.domain.Account;
+import com.project.modules.domain.Study;
+import org.springframework.data.domain.Slice;
+
+public interface StudyRepositoryExtension {
+
+    /** 스터디 멤버를 계정 id 오름차순으로 afterAccountId 다음부터 size 명 */
+    Slice<Account> findMembers(Study study, Long afterAccountId, int size);
+}
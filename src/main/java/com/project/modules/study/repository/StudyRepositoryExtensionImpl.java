@@ -0,0 +1,43 @@
+package com.project.modules.study.repository;
+
+import com.project.modules.domain.Account;
+import com.project.modules.domain.QAccount;
+import com.project.modules.domain.QStudy;
+import com.project.modules.domain.Study;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class StudyRepositoryExtensionImpl implements StudyRepositoryExtension {
+
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * study_members 에는 가입 시각이 없으므로 계정 id 를 keyset 으로 쓴다.
+     * (study_id, members_id) 기본 키 인덱스를 타므로 몇 번째 페이지든 비용이 같다.
+     */
+    @Override
+    public Slice<Account> findMembers(Study study, Long afterAccountId, int size) {
+        QStudy qStudy = QStudy.study;
+        QAccount member = new QAccount("member");
+
+        List<Account> content = queryFactory.select(member)
+                .from(qStudy)
+                .join(qStudy.members, member)
+                .where(qStudy.eq(study), afterAccountId == null ? null : member.id.gt(afterAccountId))
+                .orderBy(member.id.asc())
+                .limit(size + 1)
+                .fetch();
+
+        boolean hasNext = content.size() > size;
+        if (hasNext) {
+            content = content.subList(0, size);
+        }
+        return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
+    }
+}
@@ -0,0 +1,256 @@
+package com.project.modules.study.search;
+
+import com.project.modules.domain.Study;
+import com.project.modules.domain.Tag;
+import com.project.modules.domain.Zone;
+import com.project.modules.study.repository.StudyRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 공개된 스터디의 제목, 짧은 소개, 태그, 지역을 대상으로 하는 메모리 역색인.
+ * 단어를 1-gram/2-gram 으로 쪼개 색인하므로 '%keyword%' 와 같은 부분 일치 검색을 DB 스캔 없이 처리한다.
+ * 변경 사항은 트랜잭션 커밋 이후에 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudySearchIndex {
+
+    private static final String SORT_BY_MEMBER_COUNT = "memberCount";
+    private static final String SORT_BY_PUBLISHED_DATE_TIME = "publishedDateTime";
+
+    private final StudyRepository studyRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<Study> studies = studyRepository.findStudyWithTagsAndZonesByPublished(true);
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            postings.clear();
+            studies.forEach(study -> put(Document.of(study)));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("study search index built: {} studies", studies.size());
+    }
+
+    /** 공개된 스터디는 색인하고, 공개되지 않은 스터디는 색인에서 제거한다. */
+    public void index(Study study) {
+        if (!study.isPublished()) {
+            remove(study);
+            return;
+        }
+        Document document = Document.of(study);
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                put(document);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public void remove(Study study) {
+        Long id = study.getId();
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                delete(id);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /** 멤버 수만 바뀐 경우 태그/지역을 다시 읽지 않고 정렬 키만 갱신한다. */
+    public void updateMemberCount(Long id, int memberCount) {
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                documents.computeIfPresent(id, (key, document) -> document.withMemberCount(memberCount));
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * 키워드의 모든 단어를 포함하는 스터디 id 를 정렬/페이징해서 반환한다.
+     * 정렬은 publishedDateTime(기본), memberCount 를 요청한 방향으로 지원한다.
+     */
+    public Page<Long> search(String keyword, Pageable pageable) {
+        List<String> words = tokenize(keyword);
+        if (words.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        List<Document> matched;
+        lock.readLock().lock();
+        try {
+            matched = findCandidates(words).stream()
+                    .map(documents::get)
+                    .filter(document -> document.containsAll(words))
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        matched.sort(comparator(pageable.getSort()));
+        int from = (int) Math.min(pageable.getOffset(), matched.size());
+        int to = Math.min(from + pageable.getPageSize(), matched.size());
+        List<Long> ids = matched.subList(from, to).stream().map(Document::getId).collect(Collectors.toList());
+        return new PageImpl<>(ids, pageable, matched.size());
+    }
+
+    private Set<Long> findCandidates(List<String> words) {
+        List<Set<Long>> sets = new ArrayList<>();
+        for (String word : words) {
+            for (String gram : grams(word, word.length() > 1 ? 2 : 1)) {
+                Set<Long> ids = postings.get(gram);
+                if (ids == null) {
+                    return Collections.emptySet();
+                }
+                sets.add(ids);
+            }
+        }
+        sets.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> candidates = new HashSet<>(sets.get(0));
+        for (int i = 1; i < sets.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(sets.get(i));
+        }
+        return candidates;
+    }
+
+    /** 정렬 기준(멤버 수 또는 공개일)의 방향을 따른다. 정렬이 없으면 최신순. 나머지 기준은 같은 방향의 보조 정렬이다. */
+    private Comparator<Document> comparator(Sort sort) {
+        Comparator<Document> byPublishedDateTime = Comparator.comparing(Document::getPublishedDateTime,
+                Comparator.nullsFirst(Comparator.naturalOrder()));
+        Sort.Order order = sort.getOrderFor(SORT_BY_MEMBER_COUNT);
+        Comparator<Document> comparator = order != null
+                ? Comparator.comparingInt(Document::getMemberCount).thenComparing(byPublishedDateTime)
+                : byPublishedDateTime;
+        if (order == null) {
+            order = sort.getOrderFor(SORT_BY_PUBLISHED_DATE_TIME);
+        }
+        comparator = comparator.thenComparing(Document::getId);
+        return order != null && order.isAscending() ? comparator : comparator.reversed();
+    }
+
+    private void put(Document document) {
+        delete(document.getId());
+        documents.put(document.getId(), document);
+        document.getGrams().forEach(gram -> postings.computeIfAbsent(gram, key -> new HashSet<>()).add(document.getId()));
+    }
+
+    private void delete(Long id) {
+        Document old = documents.remove(id);
+        if (old == null) {
+            return;
+        }
+        old.getGrams().forEach(gram -> {
+            Set<Long> ids = postings.get(gram);
+            if (ids != null && ids.remove(id) && ids.isEmpty()) {
+                postings.remove(gram);
+            }
+        });
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    static List<String> tokenize(String text) {
+        if (!StringUtils.hasText(text)) {
+            return Collections.emptyList();
+        }
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(word -> !word.isEmpty())
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    static Set<String> grams(String word, int size) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + size <= word.length(); i++) {
+            grams.add(word.substring(i, i + size));
+        }
+        return grams;
+    }
+
+    @Getter
+    static class Document {
+
+        private final Long id;
+        private final String text;
+        private final Set<String> grams;
+        private final LocalDateTime publishedDateTime;
+        private final int memberCount;
+
+        private Document(Long id, String text, Set<String> grams, LocalDateTime publishedDateTime, int memberCount) {
+            this.id = id;
+            this.text = text;
+            this.grams = grams;
+            this.publishedDateTime = publishedDateTime;
+            this.memberCount = memberCount;
+        }
+
+        static Document of(Study study) {
+            StringJoiner text = new StringJoiner("\n");
+            text.add(Objects.toString(study.getTitle(), ""));
+            text.add(Objects.toString(study.getShortDescription(), ""));
+            study.getTags().stream().map(Tag::getTitle).forEach(text::add);
+            for (Zone zone : study.getZones()) {
+                text.add(zone.getCity()).add(zone.getLocalNameOfCity()).add(Objects.toString(zone.getProvince(), ""));
+            }
+            String normalized = text.toString().toLowerCase(Locale.ROOT);
+            Set<String> grams = new HashSet<>();
+            for (String word : tokenize(normalized)) {
+                grams.addAll(grams(word, 1));
+                grams.addAll(grams(word, 2));
+            }
+            return new Document(study.getId(), normalized, grams, study.getPublishedDateTime(), study.getMemberCount());
+        }
+
+        Document withMemberCount(int memberCount) {
+            return new Document(id, text, grams, publishedDateTime, memberCount);
+        }
+
+        boolean containsAll(List<String> words) {
+            return words.stream().allMatch(text::contains);
+        }
+    }
+}
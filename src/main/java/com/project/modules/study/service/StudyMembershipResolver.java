@@ -0,0 +1,60 @@
+package com.project.modules.study.service;
+
+import com.project.modules.account.util.UserAccount;
+import com.project.modules.domain.Study;
+import com.project.modules.study.repository.StudyRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 뷰에서 스터디 가입/탈퇴/관리 버튼을 그릴 때 사용하는 요청 단위 역할 조회기.
+ * managers, members 컬렉션을 초기화하지 않고 id 로 exists 쿼리를 실행하며, 같은 요청 안에서는 결과를 재사용한다.
+ */
+@Component("studyMembership")
+@RequestScope
+@RequiredArgsConstructor
+public class StudyMembershipResolver {
+
+    public enum Role {
+        MANAGER, MEMBER, NONE
+    }
+
+    private final StudyRepository studyRepository;
+
+    private final Map<Long, Role> roles = new HashMap<>();
+
+    public boolean isManager(Study study, Object principal) {
+        return role(study, principal) == Role.MANAGER;
+    }
+
+    public boolean isMember(Study study, Object principal) {
+        return role(study, principal) == Role.MEMBER;
+    }
+
+    public boolean isJoinable(Study study, Object principal) {
+        return study.isPublished() && study.isRecruiting()
+                && principal instanceof UserAccount && role(study, principal) == Role.NONE;
+    }
+
+    public Role role(Study study, Object principal) {
+        if (!(principal instanceof UserAccount)) {
+            return Role.NONE;
+        }
+        Long accountId = ((UserAccount) principal).getAccountId();
+        return roles.computeIfAbsent(study.getId(), studyId -> resolve(studyId, accountId));
+    }
+
+    private Role resolve(Long studyId, Long accountId) {
+        if (studyRepository.existsByIdAndManagersId(studyId, accountId)) {
+            return Role.MANAGER;
+        }
+        if (studyRepository.existsByIdAndMembersId(studyId, accountId)) {
+            return Role.MEMBER;
+        }
+        return Role.NONE;
+    }
+}
@@ -1,5 +1,6 @@
 package com.project.modules.study.service;
 
+import com.project.infra.image.ImageStore;
 import com.project.modules.domain.Account;
 import com.project.modules.domain.Study;
 import com.project.modules.domain.Tag;
@@ -7,14 +8,25 @@ import com.project.modules.domain.Zone;
 import com.project.modules.study.event.StudyCreatedEvent;
 import com.project.modules.study.repository.StudyRepository;
 import com.project.modules.study.form.StudyDescriptionForm;
+import com.project.modules.study.search.StudySearchIndex;
+import com.project.modules.tag.service.TagSuggestIndex;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -24,12 +36,13 @@ public class StudyService {
     private final StudyRepository studyRepository;
     private final ModelMapper modelMapper;
     private final ApplicationEventPublisher eventPublisher;
+    private final StudySearchIndex studySearchIndex;
+    private final ImageStore imageStore;
+    private final TagSuggestIndex tagSuggestIndex;
 
     public Study createNewStudy(Study study, Account account) {
         Study newStudy = studyRepository.save(study);
         newStudy.addManager(account);
-        eventPublisher.publishEvent(new StudyCreatedEvent(newStudy));
-        // TODO 알림을 보내면 됨
         return newStudy;
     }
 
@@ -55,7 +68,7 @@ public class StudyService {
     }
 
     private void checkIfManager(Account account, Study study) {
-        if (!study.isManagerOf(account)) {
+        if (!studyRepository.existsByIdAndManagersId(study.getId(), account.getId())) {
             throw new AccessDeniedException("해당 기능을 사용할 수 없습니다.");
         }
     }
@@ -67,11 +80,9 @@ public class StudyService {
     }
 
     public Study getStudyToUpdate(Account account, String path) {
-        Study study = this.getStudy(path);
-        if (!account.isManagerOf(study)) {
-            throw new AccessDeniedException("해당 기능을 사용할 수 없습니다.");
-        }
-
+        Study study = studyRepository.findStudyWithTagsAndZonesByPath(path);
+        checkIfExistingStudy(path, study);
+        checkIfManager(account, study);
         return study;
     }
 
@@ -84,16 +95,24 @@ public class StudyService {
         return study;
     }
 
+    /** 스터디 정보 헤더만 그리는 화면용. 매니저/멤버 컬렉션은 읽지 않는다. */
+    public Study getStudyToView(String path) {
+        Study study = studyRepository.findStudyWithTagsAndZonesByPath(path);
+        checkIfExistingStudy(path, study);
+        return study;
+    }
+
     public Study getStudyToEnroll(String path) {
         return studyRepository.findStudyOnlyByPath(path);
     }
 
     public void updateStudyDescription(Study study, StudyDescriptionForm studyDescriptionForm) {
         modelMapper.map(studyDescriptionForm, study);
+        studySearchIndex.index(study);
     }
 
     public void updateStudyImage(Study study, String image) {
-        study.setImage(image);
+        study.setImage(imageStore.store(image));
     }
 
     public void enableStudyBanner(Study study) {
@@ -110,23 +129,32 @@ public class StudyService {
     }
 
     public void addTag(Study study, Tag tag) {
-        study.getTags().add(tag);
+        if (study.getTags().add(tag)) {
+            tagSuggestIndex.addUsage(tag.getTitle(), 1);
+        }
+        studySearchIndex.index(study);
     }
 
     public void removeTag(Study study, Tag tag) {
-        study.getTags().remove(tag);
+        if (study.getTags().remove(tag)) {
+            tagSuggestIndex.addUsage(tag.getTitle(), -1);
+        }
+        studySearchIndex.index(study);
     }
 
     public void addZone(Study study, Zone zone) {
         study.getZones().add(zone);
+        studySearchIndex.index(study);
     }
 
     public void removeZone(Study study, Zone zone) {
         study.getZones().remove(zone);
+        studySearchIndex.index(study);
     }
 
     public void publish(Study study) {
         study.publish();
+        studySearchIndex.index(study);
         this.eventPublisher.publishEvent(new StudyCreatedEvent(study));
     }
 
@@ -151,6 +179,7 @@ public class StudyService {
             throw new IllegalArgumentException(newTitle + "은(는) 이미 사용중입니다.");
         }
         study.setTitle(newTitle);
+        studySearchIndex.index(study);
     }
 
     public boolean isValidPath(String newPath) {
@@ -167,22 +196,45 @@ public class StudyService {
 
     public void removeStudy(Study study) {
         studyRepository.delete(study);
+        studySearchIndex.remove(study);
     }
 
+    /** members 컬렉션을 읽지 않고 exists 쿼리로 확인한 뒤 study_members 에 바로 넣는다. */
     public void addMember(Study study, Account account) {
-        if (study.isMemberOf(account) || study.isManagerOf(account)) {
+        if (studyRepository.existsByIdAndMembersId(study.getId(), account.getId())
+                || studyRepository.existsByIdAndManagersId(study.getId(), account.getId())) {
             throw new IllegalArgumentException("이미 등록된 스터디입니다.");
         }
-        study.getMembers().add(account);
+        studyRepository.addMember(study.getId(), account.getId());
+        updateMemberCount(study, 1);
     }
 
     public void removeMember(Study study, Account account) {
-        if (!study.isMemberOf(account)) {
+        if (studyRepository.removeMember(study.getId(), account.getId()) == 0) {
             throw new IllegalArgumentException("등록되지 않은 회원입니다.");
         }
-        study.getMembers().remove(account);
+        updateMemberCount(study, -1);
     }
 
+    private void updateMemberCount(Study study, int delta) {
+        studyRepository.addMemberCount(study.getId(), delta);
+        study.setMemberCount(studyRepository.findMemberCountById(study.getId()));
+        studySearchIndex.updateMemberCount(study.getId(), study.getMemberCount());
+    }
 
+    @Transactional(readOnly = true)
+    public Page<Study> searchStudy(String keyword, Pageable pageable) {
+        if (!StringUtils.hasText(keyword)) {
+            return studyRepository.findByPublished(true, pageable);
+        }
 
+        Page<Long> ids = studySearchIndex.search(keyword, pageable);
+        Map<Long, Study> studies = studyRepository.findStudyWithTagsAndZonesByIdIn(ids.getContent()).stream()
+                .collect(Collectors.toMap(Study::getId, Function.identity()));
+        List<Study> content = ids.getContent().stream()
+                .map(studies::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return new PageImpl<>(content, pageable, ids.getTotalElements());
+    }
 }
@@ -0,0 +1,60 @@
+package com.project.modules.tag.controller;
+
+import com.project.modules.tag.service.TagCatalog;
+import com.project.modules.tag.service.TagCatalog.Whitelist;
+import com.project.modules.tag.service.TagSuggestIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@RestController
+@RequiredArgsConstructor
+public class TagController {
+
+    private final TagCatalog tagCatalog;
+    private final TagSuggestIndex tagSuggestIndex;
+
+    /**
+     * 태그 whitelist JSON. 요청한 버전이 현재 버전이면 1 년 동안 캐시하도록 내려주고,
+     * 지난 버전이면 현재 버전 URL 로 보낸다.
+     */
+    @GetMapping(TagCatalog.WHITELIST_URL + "{version}")
+    public ResponseEntity<byte[]> whitelist(@PathVariable String version,
+                                           @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Whitelist whitelist = tagCatalog.getWhitelist();
+        if (!whitelist.getVersion().equals(version)) {
+            return ResponseEntity.status(HttpStatus.FOUND)
+                    .header(HttpHeaders.LOCATION, tagCatalog.getWhitelistUrl())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+
+        CacheControl cacheControl = CacheControl.maxAge(365, TimeUnit.DAYS).cachePrivate().immutable();
+        if (whitelist.getEtag().equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(whitelist.getEtag()).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(whitelist.getEtag())
+                .cacheControl(cacheControl)
+                .body(whitelist.getJson());
+    }
+
+    /** 태그 자동완성. 입력한 접두사(초성 포함)로 시작하는 태그를 많이 쓰이는 순으로 반환한다. */
+    @GetMapping("/tags/suggest")
+    public List<String> suggest(@RequestParam("q") String query,
+                                @RequestParam(defaultValue = "10") int size) {
+        return tagSuggestIndex.suggest(query, size);
+    }
+}
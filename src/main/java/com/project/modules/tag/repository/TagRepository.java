@@ -2,9 +2,15 @@ package com.project.modules.tag.repository;
 
 import com.project.modules.domain.Tag;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Transactional(readOnly = true)
 public interface TagRepository extends JpaRepository<Tag, Long> {
     Tag findByTitle(String title);
+
+    @Query("select t.title from Tag t order by t.id")
+    List<String> findAllTitles();
 }
@@ -0,0 +1,119 @@
+package com.project.modules.tag.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.modules.tag.repository.TagRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 태그 입력 화면의 자동완성 목록(whitelist). 전체 태그 제목을 JSON 바이트로 직렬화해 두고 버전을 붙여
+ * /tags/whitelist/{version} 에서 내려준다. 버전이 URL 에 있으므로 브라우저는 내용이 바뀔 때까지 캐시를 쓴다.
+ * 버전은 JSON 바이트의 해시라서 재시작하거나 인스턴스가 여러 대여도 같은 내용이면 같은 버전이다.
+ * 태그가 새로 생기면 커밋 이후에 기존 바이트 끝에 제목 하나만 덧붙이고 버전을 다시 계산한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagCatalog {
+
+    public static final String WHITELIST_URL = "/tags/whitelist/";
+
+    private final TagRepository tagRepository;
+    private final ObjectMapper objectMapper;
+
+    private volatile Whitelist whitelist = new Whitelist("[]".getBytes(StandardCharsets.UTF_8), 0);
+    /** whitelist 에 든 제목. 같은 제목을 두 번 덧붙이지 않기 위해 쓰고 this 로 동기화한다. */
+    private final Set<String> titles = new HashSet<>();
+
+    /**
+     * 조회와 교체를 append 와 같은 락 안에서 한다. 조회 중에 커밋된 태그의 append 는 교체가 끝난 뒤에 실행되고,
+     * 조회 결과에 이미 들어 있으면 건너뛴다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        List<String> loaded = tagRepository.findAllTitles();
+        try {
+            whitelist = new Whitelist(objectMapper.writeValueAsBytes(loaded), loaded.size());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+        titles.clear();
+        titles.addAll(loaded);
+        log.info("tag whitelist built: {} tags, {} bytes", loaded.size(), whitelist.getJson().length);
+    }
+
+    public Whitelist getWhitelist() {
+        return whitelist;
+    }
+
+    public String getWhitelistUrl() {
+        return WHITELIST_URL + whitelist.getVersion();
+    }
+
+    /** 새로 만든 태그를 커밋 이후에 목록에 덧붙인다. */
+    public void add(String title) {
+        Runnable task = () -> append(title);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    private synchronized void append(String title) {
+        if (!titles.add(title)) {
+            return;
+        }
+        byte[] element;
+        try {
+            element = objectMapper.writeValueAsBytes(title);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+        Whitelist current = whitelist;
+        byte[] json = current.getJson();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length + element.length + 1);
+        out.write(json, 0, json.length - 1);
+        if (current.getSize() > 0) {
+            out.write(',');
+        }
+        out.write(element, 0, element.length);
+        out.write(']');
+        whitelist = new Whitelist(out.toByteArray(), current.getSize() + 1);
+    }
+
+    @Getter
+    public static class Whitelist {
+
+        private final String version;
+        private final byte[] json;
+        private final int size;
+        private final String etag;
+
+        Whitelist(byte[] json, int size) {
+            this.version = DigestUtils.md5DigestAsHex(json);
+            this.json = json;
+            this.size = size;
+            this.etag = "\"tags-" + version + "\"";
+        }
+    }
+}
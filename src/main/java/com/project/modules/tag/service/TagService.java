@@ -12,11 +12,15 @@ import org.springframework.transaction.annotation.Transactional;
 public class TagService {
 
     private final TagRepository tagRepository;
+    private final TagCatalog tagCatalog;
+    private final TagSuggestIndex tagSuggestIndex;
 
     public Tag findOrCreateNew(String tagTitle) {
         Tag tag = tagRepository.findByTitle(tagTitle);
         if (tag == null) {
             tag = tagRepository.save(Tag.builder().title(tagTitle).build());
+            tagCatalog.add(tag.getTitle());
+            tagSuggestIndex.add(tag.getTitle());
         }
         return tag;
     }
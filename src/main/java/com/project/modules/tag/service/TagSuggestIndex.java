@@ -0,0 +1,280 @@
+package com.project.modules.tag.service;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import static com.project.modules.domain.QAccount.account;
+import static com.project.modules.domain.QStudy.study;
+import static com.project.modules.domain.QTag.tag;
+
+/**
+ * 태그 자동완성용 접두사 트라이. 태그 제목과 초성('스프링' → 'ㅅㅍㄹ') 두 가지 키로 색인하고,
+ * 노드마다 사용 수(태그를 쓰는 스터디 + 계정) 순으로 정렬된 후보를 미리 담아 두어 입력마다 DB 를 보지 않는다.
+ * 사용 수는 커밋 이후에 메모리에서 증감하고 트라이는 주기적으로 다시 만든다. DB 값과는 긴 주기로 맞춘다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagSuggestIndex {
+
+    public static final int MAX_SIZE = 20;
+
+    private static final int CANDIDATES_PER_NODE = 100;
+
+    private static final char[] CHOSUNG = {'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'};
+    private static final char HANGUL_BEGIN = '가';
+    private static final char HANGUL_END = '힣';
+    private static final int SYLLABLES_PER_CHOSUNG = 21 * 28;
+
+    private static final Comparator<Entry> RANK =
+            Comparator.comparingLong(Entry::getCount).reversed().thenComparing(Entry::getTitle);
+
+    private final JPAQueryFactory queryFactory;
+
+    private final Map<String, Long> usage = new ConcurrentHashMap<>();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private volatile Snapshot snapshot = new Snapshot(Collections.emptyList());
+
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${app.tag.suggest-reload-interval:3600000}",
+            fixedDelayString = "${app.tag.suggest-reload-interval:3600000}")
+    public void reload() {
+        Map<String, Long> actual = new HashMap<>();
+        queryFactory.select(tag.title).from(tag).fetch().forEach(title -> actual.put(title, 0L));
+        merge(actual, queryFactory.select(tag.title, study.count())
+                .from(study).join(study.tags, tag)
+                .groupBy(tag.title)
+                .fetch());
+        merge(actual, queryFactory.select(tag.title, account.count())
+                .from(account).join(account.tags, tag)
+                .groupBy(tag.title)
+                .fetch());
+
+        usage.keySet().retainAll(actual.keySet());
+        usage.putAll(actual);
+        dirty.set(false);
+        snapshot = new Snapshot(usage);
+        log.info("tag suggest index built: {} tags", actual.size());
+    }
+
+    @Scheduled(fixedDelayString = "${app.tag.suggest-refresh-interval:5000}")
+    public void refresh() {
+        if (dirty.compareAndSet(true, false)) {
+            snapshot = new Snapshot(usage);
+        }
+    }
+
+    /** 새로 만든 태그를 사용 수 0 으로 추가한다. */
+    public void add(String title) {
+        afterCommit(() -> {
+            if (usage.putIfAbsent(title, 0L) == null) {
+                dirty.set(true);
+            }
+        });
+    }
+
+    /** 스터디나 계정에 태그가 붙거나(+1) 떨어질 때(-1) 사용 수를 바꾼다. */
+    public void addUsage(String title, int delta) {
+        afterCommit(() -> {
+            usage.computeIfPresent(title, (key, count) -> Math.max(0, count + delta));
+            dirty.set(true);
+        });
+    }
+
+    /**
+     * 입력한 접두사로 시작하는 태그를 사용 수 내림차순으로 최대 size 개 반환한다.
+     * 초성(ㄱ, ㄴ, ...)만 입력했으면 초성 트라이에서 찾는다. 음절과 초성이 섞여 있으면('스ㅍ') 제목 트라이를 내려가며
+     * 초성 자리에서는 그 초성으로 시작하는 자식을 모두 따라가고, 도착한 노드들의 후보를 합쳐 순위대로 자른다.
+     * 노드마다 후보가 잘려 있어도 각 노드의 상위 후보끼리 합치므로 결과가 빠지지 않는다.
+     */
+    public List<String> suggest(String query, int size) {
+        if (query == null || query.isBlank() || size <= 0) {
+            return Collections.emptyList();
+        }
+        String prefix = query.strip().toLowerCase(Locale.ROOT);
+        int limit = Math.min(size, MAX_SIZE);
+        Snapshot current = snapshot;
+
+        if (!containsChosung(prefix)) {
+            return current.titles.find(prefix).stream()
+                    .limit(limit)
+                    .map(Entry::getTitle)
+                    .collect(Collectors.toList());
+        }
+        if (isAllChosung(prefix)) {
+            return current.chosungs.find(prefix).stream()
+                    .limit(limit)
+                    .map(Entry::getTitle)
+                    .collect(Collectors.toList());
+        }
+        return current.titles.findMatching(prefix).stream()
+                .flatMap(node -> node.candidates.stream().limit(limit))
+                .sorted(RANK)
+                .limit(limit)
+                .map(Entry::getTitle)
+                .collect(Collectors.toList());
+    }
+
+    private void merge(Map<String, Long> actual, List<Tuple> counts) {
+        for (Tuple tuple : counts) {
+            Long count = tuple.get(1, Long.class);
+            actual.merge(tuple.get(tag.title), count == null ? 0L : count, Long::sum);
+        }
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    static String chosung(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            builder.append(chosung(text.charAt(i)));
+        }
+        return builder.toString();
+    }
+
+    private static char chosung(char c) {
+        if (c >= HANGUL_BEGIN && c <= HANGUL_END) {
+            return CHOSUNG[(c - HANGUL_BEGIN) / SYLLABLES_PER_CHOSUNG];
+        }
+        return c;
+    }
+
+    private static boolean isChosung(char c) {
+        return Arrays.binarySearch(CHOSUNG, c) >= 0;
+    }
+
+    private static boolean containsChosung(String text) {
+        return text.chars().anyMatch(c -> isChosung((char) c));
+    }
+
+    private static boolean isAllChosung(String text) {
+        return text.chars().allMatch(c -> isChosung((char) c));
+    }
+
+    private static class Snapshot {
+
+        private final Trie titles = new Trie();
+        private final Trie chosungs = new Trie();
+
+        Snapshot(Map<String, Long> usage) {
+            this(usage.entrySet().stream()
+                    .map(e -> new Entry(e.getKey(), e.getValue()))
+                    .collect(Collectors.toList()));
+        }
+
+        Snapshot(List<Entry> entries) {
+            List<Entry> ranked = new ArrayList<>(entries);
+            ranked.sort(RANK);
+            for (Entry entry : ranked) {
+                titles.insert(entry.key, entry);
+                chosungs.insert(chosung(entry.key), entry);
+            }
+        }
+    }
+
+    /** 사용 수 내림차순으로 넣으므로 노드의 후보 목록은 따로 정렬하지 않아도 순위대로 쌓인다. */
+    private static class Trie {
+
+        private final Node root = new Node();
+
+        void insert(String key, Entry entry) {
+            Node node = root;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+                if (node.candidates.size() < CANDIDATES_PER_NODE) {
+                    node.candidates.add(entry);
+                }
+            }
+        }
+
+        List<Entry> find(String prefix) {
+            Node node = root;
+            for (int i = 0; i < prefix.length() && node != null; i++) {
+                node = node.children.get(prefix.charAt(i));
+            }
+            return node == null ? Collections.emptyList() : node.candidates;
+        }
+
+        /** 초성 자리는 그 초성으로 시작하는 글자와, 나머지 자리는 같은 글자와 맞춰 prefix 끝에 도착한 노드를 모두 모은다. */
+        List<Node> findMatching(String prefix) {
+            List<Node> matched = new ArrayList<>();
+            collect(root, prefix, 0, matched);
+            return matched;
+        }
+
+        private void collect(Node node, String prefix, int depth, List<Node> matched) {
+            if (depth == prefix.length()) {
+                matched.add(node);
+                return;
+            }
+            char p = prefix.charAt(depth);
+            if (!isChosung(p)) {
+                Node child = node.children.get(p);
+                if (child != null) {
+                    collect(child, prefix, depth + 1, matched);
+                }
+                return;
+            }
+            node.children.forEach((c, child) -> {
+                if (chosung(c) == p) {
+                    collect(child, prefix, depth + 1, matched);
+                }
+            });
+        }
+    }
+
+    private static class Node {
+
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private final List<Entry> candidates = new ArrayList<>(1);
+    }
+
+    @Getter
+    private static class Entry {
+
+        private final String title;
+        private final String key;
+        private final long count;
+
+        Entry(String title, long count) {
+            this.title = title;
+            this.key = title.toLowerCase(Locale.ROOT);
+            this.count = count;
+        }
+    }
+}
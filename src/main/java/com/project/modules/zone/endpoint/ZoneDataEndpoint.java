@@ -0,0 +1,35 @@
+package com.project.modules.zone.endpoint;
+
+import com.project.modules.zone.service.ZoneCatalog;
+import com.project.modules.zone.service.ZoneService;
+import com.project.modules.zone.service.ZoneService.ReloadResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 지역 기준 데이터 관리용 actuator 엔드포인트(/actuator/zones).
+ * 관리 포트(management.server)에서만 열리며, POST 로 app.reference-data.zones 의 CSV 를 다시 반영한다.
+ */
+@Component
+@Endpoint(id = "zones")
+@RequiredArgsConstructor
+public class ZoneDataEndpoint {
+
+    private final ZoneService zoneService;
+    private final ZoneCatalog zoneCatalog;
+
+    @ReadOperation
+    public Map<String, Object> zones() {
+        return Map.of("count", zoneCatalog.getZones().size());
+    }
+
+    @WriteOperation
+    public ReloadResult reload() {
+        return zoneService.reloadZoneData();
+    }
+}
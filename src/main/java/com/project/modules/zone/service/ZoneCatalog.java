@@ -0,0 +1,107 @@
+package com.project.modules.zone.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.modules.domain.Zone;
+import com.project.modules.zone.repository.ZoneRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 지역 기준 데이터의 불변 스냅샷. 지역은 zones_kr.csv 에서 읽어 들인 뒤 거의 바뀌지 않으므로
+ * 기준 데이터를 적재한 뒤(ZoneService) 한 번 읽어 두고, 화면의 whitelist 와 "도시(지역명)/도" 문자열 조회를 DB 없이 처리한다.
+ * 다시 읽을 때는 새 스냅샷을 만들어 통째로 바꾸므로 조회하는 쪽은 잠금 없이 이전 또는 새 스냅샷 하나를 본다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ZoneCatalog {
+
+    private final ZoneRepository zoneRepository;
+    private final ObjectMapper objectMapper;
+
+    private volatile Snapshot snapshot = new Snapshot(Collections.emptyList(), "[]");
+
+    public void load() {
+        List<Entry> entries = zoneRepository.findAll().stream().map(Entry::of).collect(Collectors.toList());
+        snapshot = snapshot(entries);
+        log.info("zone catalog loaded: {} zones", entries.size());
+    }
+
+    /** 화면에 보여주는 "도시(지역명)/도" 문자열로 지역을 찾는다. 없으면 null. */
+    public Zone findByDisplayName(String displayName) {
+        if (displayName == null) {
+            return null;
+        }
+        Entry entry = snapshot.byDisplayName.get(displayName);
+        return entry == null ? null : entry.toZone();
+    }
+
+    public List<Entry> getZones() {
+        return snapshot.entries;
+    }
+
+    /** 전체 지역의 표시 문자열 JSON 배열. */
+    public String getWhitelist() {
+        return snapshot.whitelist;
+    }
+
+    Snapshot snapshot(List<Entry> entries) {
+        List<String> displayNames = entries.stream().map(Entry::getDisplayName).collect(Collectors.toList());
+        try {
+            return new Snapshot(entries, objectMapper.writeValueAsString(displayNames));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static class Snapshot {
+
+        private final List<Entry> entries;
+        private final Map<String, Entry> byDisplayName;
+        private final String whitelist;
+
+        Snapshot(List<Entry> entries, String whitelist) {
+            this.entries = List.copyOf(entries);
+            this.whitelist = whitelist;
+            Map<String, Entry> byDisplayName = new HashMap<>(entries.size() * 2);
+            entries.forEach(entry -> byDisplayName.put(entry.getDisplayName(), entry));
+            this.byDisplayName = Collections.unmodifiableMap(byDisplayName);
+        }
+    }
+
+    @Getter
+    public static class Entry {
+
+        private final Long id;
+        private final String city;
+        private final String localNameOfCity;
+        private final String province;
+        private final String displayName;
+
+        public Entry(Long id, String city, String localNameOfCity, String province) {
+            this.id = id;
+            this.city = city;
+            this.localNameOfCity = localNameOfCity;
+            this.province = province;
+            this.displayName = toZone().toString();
+        }
+
+        static Entry of(Zone zone) {
+            return new Entry(zone.getId(), zone.getCity(), zone.getLocalNameOfCity(), zone.getProvince());
+        }
+
+        /** 연관관계에 넣을 수 있도록 매번 새 Zone 을 만든다. 스냅샷의 값은 바뀌지 않는다. */
+        public Zone toZone() {
+            return Zone.builder().id(id).city(city).localNameOfCity(localNameOfCity).province(province).build();
+        }
+    }
+}
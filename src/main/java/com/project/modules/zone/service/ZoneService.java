@@ -1,38 +1,131 @@
 package com.project.modules.zone.service;
 
+import com.project.infra.data.ReferenceDataLoader;
 import com.project.modules.domain.Zone;
 import com.project.modules.zone.repository.ZoneRepository;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.ClassPathResource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.core.io.Resource;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import javax.annotation.PostConstruct;
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
+@Slf4j
 @Service
 @Transactional
-@RequiredArgsConstructor
 public class ZoneService {
 
     private final ZoneRepository zoneRepository;
+    private final ZoneCatalog zoneCatalog;
+    private final ReferenceDataLoader referenceDataLoader;
+    private final TaskExecutor referenceDataExecutor;
+    private final Resource zoneData;
+    private final boolean async;
 
-    @PostConstruct
-    public void initZoneData() throws IOException {
+    public ZoneService(ZoneRepository zoneRepository, ZoneCatalog zoneCatalog, ReferenceDataLoader referenceDataLoader,
+                       @Qualifier("referenceDataExecutor") TaskExecutor referenceDataExecutor,
+                       @Value("${app.reference-data.zones:classpath:zones_kr.csv}") Resource zoneData,
+                       @Value("${app.reference-data.async:true}") boolean async) {
+        this.zoneRepository = zoneRepository;
+        this.zoneCatalog = zoneCatalog;
+        this.referenceDataLoader = referenceDataLoader;
+        this.referenceDataExecutor = referenceDataExecutor;
+        this.zoneData = zoneData;
+        this.async = async;
+    }
+
+    /**
+     * 지역 테이블이 이미 채워져 있으면 ZoneCatalog 를 바로 채운다. 시작 직후 요청이 빈 카탈로그를 보지 않게 하기 위해서다.
+     * 비어 있을 때의 CSV 적재만 시작을 막지 않도록 별도 스레드에서 하고, 적재가 끝나면 ZoneCatalog 를 채운다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!async || zoneRepository.count() > 0) {
+            initZoneData();
+            return;
+        }
+        referenceDataExecutor.execute(() -> {
+            try {
+                initZoneData();
+            } catch (RuntimeException e) {
+                log.error("zone data load failed", e);
+            }
+        });
+    }
+
+    public void initZoneData() {
         if (zoneRepository.count() == 0) {
-            Resource resource = new ClassPathResource("zones_kr.csv");
-            List<Zone> zoneList = Files.readAllLines(resource.getFile().toPath(), StandardCharsets.UTF_8).stream()
-                    .map(line -> {
-                        String[] split = line.split(",");
-                        return Zone.builder().city(split[0]).localNameOfCity(split[1]).province(split[2]).build();
-                    }).collect(Collectors.toList());
-            zoneRepository.saveAll(zoneList);
+            referenceDataLoader.load(zoneData, Zone.class, "zone", List.of("city", "local_name_of_city", "province"),
+                    fields -> Zone.builder().city(fields[0]).localNameOfCity(fields[1]).province(fields[2]).build());
+        }
+        zoneCatalog.load();
+    }
+
+    /**
+     * 지역 CSV(app.reference-data.zones)를 다시 읽어 기존 지역과 한 번에 비교한다. 없는 지역(도시/도 기준)은 추가하고 지역명이 바뀐 지역은 고친다.
+     * 스터디와 계정이 참조하고 있을 수 있으므로 파일에서 빠진 지역은 지우지 않는다.
+     * 커밋 이후에 ZoneCatalog 를 새 스냅샷으로 바꾸므로 조회하는 쪽은 기다리지 않는다.
+     */
+    public ReloadResult reloadZoneData() {
+        Map<String, Zone> zones = new HashMap<>();
+        zoneRepository.findAll().forEach(zone -> zones.put(key(zone.getCity(), zone.getProvince()), zone));
+
+        List<Zone> inserted = new ArrayList<>();
+        List<Zone> updated = new ArrayList<>();
+        int rows = referenceDataLoader.read(zoneData, 3, fields -> {
+            String key = key(fields[0], fields[2]);
+            Zone zone = zones.get(key);
+            if (zone == null) {
+                zone = Zone.builder().city(fields[0]).localNameOfCity(fields[1]).province(fields[2]).build();
+                zones.put(key, zone);
+                inserted.add(zone);
+            } else if (!fields[1].equals(zone.getLocalNameOfCity())) {
+                zone.setLocalNameOfCity(fields[1]);
+                updated.add(zone);
+            }
+        });
+        zoneRepository.saveAll(inserted);
+
+        afterCommit(zoneCatalog::load);
+        log.info("zone data reloaded: {} rows, {} inserted, {} updated", rows, inserted.size(), updated.size());
+        return new ReloadResult(rows, inserted.size(), updated.size());
+    }
+
+    private static String key(String city, String province) {
+        return city + "/" + province;
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
         }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
     }
 
+    @Getter
+    @RequiredArgsConstructor
+    public static class ReloadResult {
+
+        private final int rows;
+        private final int inserted;
+        private final int updated;
+    }
 }
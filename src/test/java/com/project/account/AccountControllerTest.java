@@ -1,5 +1,7 @@
 package com.project.account;
 
+import com.project.infra.mail.EmailType;
+import com.project.infra.mail.OutboundEmailRepository;
 import com.project.modules.account.repository.AccountRepository;
 import com.project.modules.account.service.AccountService;
 import com.project.modules.domain.Account;
@@ -13,6 +15,8 @@ import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
@@ -32,6 +36,8 @@ class AccountControllerTest {
     AccountRepository accountRepository;
     @Autowired
     AccountService accountService;
+    @Autowired
+    OutboundEmailRepository outboundEmailRepository;
     @MockBean JavaMailSender javaMailSender;
 
     @DisplayName("인증 메일 확인 - 입력값 오류")
@@ -108,7 +114,28 @@ class AccountControllerTest {
         assertNotEquals(account.getPassword(), "12345678");
         assertNotNull(account.getEmailCheckToken());
         assertTrue(accountRepository.existsByEmail("dolla_@naver.com"));
-        // TODO 메일 전송 (콘솔 전송 사용) 으로 변경
-//        then(javaMailSender).should().send(any(SimpleMailMessage.class));
+        assertTrue(outboundEmailRepository.findAll().stream().anyMatch(outboundEmail ->
+                outboundEmail.getTo().equals("dolla_@naver.com") && outboundEmail.getType() == EmailType.SIGN_UP_CONFIRM));
+    }
+
+    @DisplayName("이메일 로그인 링크 요청 - 메일은 outbox 에 넣고 바로 응답")
+    @Test
+    void sendEmailLoginLink() throws Exception {
+        Account account = accountRepository.save(Account.builder()
+                .email("login@email.com")
+                .password("1234asdf5678")
+                .nickname("login")
+                .emailCheckTokenGeneratedAt(LocalDateTime.now().minusHours(2))
+                .build());
+
+        mockMvc.perform(post("/email-login")
+                        .param("email", account.getEmail())
+                        .with(csrf()))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/email-login"));
+
+        assertTrue(outboundEmailRepository.findAll().stream().anyMatch(outboundEmail ->
+                outboundEmail.getTo().equals("login@email.com") && outboundEmail.getType() == EmailType.LOGIN_LINK
+                        && outboundEmail.getMessage().contains(account.getEmailCheckToken())));
     }
 }
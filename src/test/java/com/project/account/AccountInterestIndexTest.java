@@ -0,0 +1,57 @@
+package com.project.account;
+
+import com.project.modules.account.service.AccountInterestIndex;
+import com.project.modules.account.service.AccountInterestIndex.Recipients;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AccountInterestIndexTest {
+
+    AccountInterestIndex accountInterestIndex;
+
+    @BeforeEach
+    void beforeEach() {
+        accountInterestIndex = new AccountInterestIndex(null);
+    }
+
+    @DisplayName("주제와 지역이 모두 겹치고 알림을 받는 계정만 대상")
+    @Test
+    void find_study_created_recipients() {
+        interested(1L, 10L, 100L, true, true);
+        interested(2L, 11L, 100L, true, false);
+        interested(3L, 10L, 101L, true, true);
+        interested(4L, 10L, 100L, false, false);
+
+        Recipients recipients = accountInterestIndex.findStudyCreatedRecipients(Set.of(10L, 11L), List.of(100L));
+
+        assertArrayEquals(new long[]{1L, 2L}, recipients.getByWeb().toArray());
+        assertArrayEquals(new long[]{1L}, recipients.getByEmail().toArray());
+    }
+
+    @DisplayName("주제를 지우거나 알림을 끄면 대상에서 빠진다")
+    @Test
+    void removed_interest_is_excluded() {
+        interested(1L, 10L, 100L, true, true);
+        accountInterestIndex.removeTag(1L, 10L);
+        assertTrue(accountInterestIndex.findStudyCreatedRecipients(Set.of(10L), Set.of(100L)).getByWeb().isEmpty());
+
+        accountInterestIndex.addTag(1L, 10L);
+        accountInterestIndex.updateStudyCreatedFlags(1L, false, false);
+        Recipients recipients = accountInterestIndex.findStudyCreatedRecipients(Set.of(10L), Set.of(100L));
+        assertTrue(recipients.getByWeb().isEmpty());
+        assertTrue(recipients.getByEmail().isEmpty());
+    }
+
+    private void interested(Long accountId, Long tagId, Long zoneId, boolean byWeb, boolean byEmail) {
+        accountInterestIndex.addTag(accountId, tagId);
+        accountInterestIndex.addZone(accountId, zoneId);
+        accountInterestIndex.updateStudyCreatedFlags(accountId, byWeb, byEmail);
+    }
+}
@@ -0,0 +1,74 @@
+package com.project.account;
+
+import com.project.modules.account.service.AccountPrincipalCache;
+import com.project.modules.domain.Account;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccountPrincipalCacheTest {
+
+    AccountPrincipalCache accountPrincipalCache = new AccountPrincipalCache();
+
+    @DisplayName("한 번 읽은 계정은 다시 읽지 않고, evict 하면 다시 읽는다")
+    @Test
+    void cached_until_evicted() {
+        AtomicInteger loads = new AtomicInteger();
+        Account account = Account.builder().id(1L).nickname("keesun").email("keesun@email.com").build();
+
+        for (int i = 0; i < 3; i++) {
+            accountPrincipalCache.get("keesun", username -> {
+                loads.incrementAndGet();
+                return Optional.of(account);
+            });
+        }
+        assertEquals(1, loads.get());
+
+        accountPrincipalCache.evict(1L);
+        accountPrincipalCache.get("keesun", username -> {
+            loads.incrementAndGet();
+            return Optional.of(account);
+        });
+        assertEquals(2, loads.get());
+    }
+
+    @DisplayName("읽는 도중에 evict 되면 읽은 값을 캐시하지 않는다")
+    @Test
+    void evict_during_load_skips_put() {
+        AtomicInteger loads = new AtomicInteger();
+        Account stale = Account.builder().id(1L).nickname("keesun").email("keesun@email.com").build();
+
+        accountPrincipalCache.get("keesun", username -> {
+            loads.incrementAndGet();
+            // 이전 값을 읽은 직후 다른 요청이 계정을 바꾸고 커밋했다.
+            accountPrincipalCache.evict(1L);
+            return Optional.of(stale);
+        });
+
+        Account fresh = Account.builder().id(1L).nickname("keesun").email("new@email.com").build();
+        Optional<Account> account = accountPrincipalCache.get("keesun", username -> {
+            loads.incrementAndGet();
+            return Optional.of(fresh);
+        });
+        assertEquals(2, loads.get());
+        assertEquals("new@email.com", account.orElseThrow().getEmail());
+    }
+
+    @DisplayName("없는 계정은 캐시하지 않는다")
+    @Test
+    void missing_account_is_not_cached() {
+        AtomicInteger loads = new AtomicInteger();
+        for (int i = 0; i < 2; i++) {
+            Optional<Account> account = accountPrincipalCache.get("nobody", username -> {
+                loads.incrementAndGet();
+                return Optional.empty();
+            });
+            assertTrue(account.isEmpty());
+        }
+        assertEquals(2, loads.get());
+    }
+}
@@ -0,0 +1,98 @@
+package com.project.account;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.modules.account.util.UserAccount;
+import com.project.modules.domain.Account;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextImpl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserAccountSessionSizeTest {
+
+    @DisplayName("세션에 저장되는 SecurityContext 크기는 프로필 크기와 무관하다")
+    @Test
+    void session_size_does_not_depend_on_profile() throws Exception {
+        int small = serializedSize(account(""));
+        int large = serializedSize(account("x".repeat(100_000)));
+
+        assertEquals(small, large);
+        assertTrue(large < 2048);
+    }
+
+    @DisplayName("ImageStore 에 저장된 프로필 이미지 URL 은 담고 data URL 은 담지 않는다")
+    @Test
+    void keeps_only_stored_profile_image_url() {
+        Account stored = account("");
+        stored.setProfileImage("/image-store/" + "a".repeat(64) + ".png");
+        Account dataUrl = account("");
+        dataUrl.setProfileImage("data:image/png;base64," + "x".repeat(100_000));
+
+        assertEquals(stored.getProfileImage(), new UserAccount(stored).getLoginAccount().getProfileImage());
+        assertNull(new UserAccount(dataUrl).getLoginAccount().getProfileImage());
+    }
+
+    /**
+     * 예전 principal 은 Account 엔티티를 그대로 들고 있었다. Account 는 Serializable 이 아니라 자바 직렬화로는 잴 수 없으므로
+     * JSON 세션 직렬화를 가정해 엔티티를 JSON 으로 바꾼 크기를 기준으로 삼는다. 프로필(bio, profileImage)이 그대로 들어간다.
+     */
+    @DisplayName("예전처럼 Account 를 담으면 프로필 크기만큼 커진다")
+    @Test
+    void baseline_account_principal_grows_with_profile() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        int small = objectMapper.writeValueAsBytes(account("")).length;
+        int large = objectMapper.writeValueAsBytes(account("x".repeat(100_000))).length;
+
+        assertTrue(large >= small + 200_000);
+        assertTrue(large > serializedSize(account("x".repeat(100_000))) * 100);
+    }
+
+    @DisplayName("세션 직렬화 후에도 계정 id 와 닉네임을 유지한다")
+    @Test
+    void round_trip() throws Exception {
+        UserAccount userAccount = new UserAccount(account("bio"));
+        byte[] bytes = serialize(new SecurityContextImpl(
+                new UsernamePasswordAuthenticationToken(userAccount, null, userAccount.getAuthorities())));
+
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            SecurityContextImpl context = (SecurityContextImpl) in.readObject();
+            UserAccount restored = (UserAccount) context.getAuthentication().getPrincipal();
+            assertEquals(1L, restored.getAccountId());
+            assertEquals("keesun", restored.getLoginAccount().getNickname());
+        }
+    }
+
+    private int serializedSize(Account account) throws IOException {
+        UserAccount userAccount = new UserAccount(account);
+        return serialize(new SecurityContextImpl(
+                new UsernamePasswordAuthenticationToken(userAccount, null, userAccount.getAuthorities()))).length;
+    }
+
+    private byte[] serialize(Object object) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+        return bytes.toByteArray();
+    }
+
+    private Account account(String profile) {
+        Account account = Account.builder()
+                .id(1L)
+                .nickname("keesun")
+                .email("keesun@email.com")
+                .password("{noop}12341234")
+                .bio(profile)
+                .profileImage(profile)
+                .build();
+        return account;
+    }
+}
@@ -3,26 +3,37 @@ package com.project.domain;
 import com.project.modules.account.util.UserAccount;
 import com.project.modules.domain.Account;
 import com.project.modules.domain.Study;
+import com.project.modules.study.repository.StudyRepository;
+import com.project.modules.study.service.StudyMembershipResolver;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
+/**
+ * 스터디 가입/관리 여부는 managers, members 컬렉션 대신 StudyMembershipResolver 의 exists 쿼리로 판단한다.
+ */
 class StudyTest {
 
     Study study;
     Account account;
     UserAccount userAccount;
+    StudyRepository studyRepository;
+    StudyMembershipResolver studyMembership;
 
     @BeforeEach
     void beforeEach() {
         study = new Study();
+        study.setId(10L);
         account = new Account();
+        account.setId(1L);
         account.setNickname("keesun");
         account.setPassword("123");
         userAccount = new UserAccount(account);
-
+        studyRepository = mock(StudyRepository.class);
+        studyMembership = new StudyMembershipResolver(studyRepository);
     }
 
     @DisplayName("스터디를 공개했고 인원 모집 중이고, 이미 멤버나 스터디 관리자가 아니라면 스터디 가입 가능")
@@ -31,7 +42,7 @@ class StudyTest {
         study.setPublished(true);
         study.setRecruiting(true);
 
-        assertTrue(study.isJoinable(userAccount));
+        assertTrue(studyMembership.isJoinable(study, userAccount));
     }
 
     @DisplayName("스터디를 공개했고 인원 모집 중이더라도, 스터디 관리자는 스터디 가입이 불필요하다.")
@@ -39,9 +50,9 @@ class StudyTest {
     void isJoinable_false_for_manager() {
         study.setPublished(true);
         study.setRecruiting(true);
-        study.addManager(account);
+        when(studyRepository.existsByIdAndManagersId(10L, 1L)).thenReturn(true);
 
-        assertFalse(study.isJoinable(userAccount));
+        assertFalse(studyMembership.isJoinable(study, userAccount));
     }
 
     @DisplayName("스터디를 공개했고 인원 모집 중이더라도, 스터디 멤버는 스터디 재가입이 불필요하다.")
@@ -49,9 +60,9 @@ class StudyTest {
     void isJoinable_false_for_member() {
         study.setPublished(true);
         study.setRecruiting(true);
-        study.addMember(account);
+        when(studyRepository.existsByIdAndMembersId(10L, 1L)).thenReturn(true);
 
-        assertFalse(study.isJoinable(userAccount));
+        assertFalse(studyMembership.isJoinable(study, userAccount));
     }
 
     @DisplayName("스터디가 비공개거나 인원 모집 중이 아니면 스터디 가입이 불가능하다.")
@@ -60,26 +71,53 @@ class StudyTest {
         study.setPublished(true);
         study.setRecruiting(false);
 
-        assertFalse(study.isJoinable(userAccount));
+        assertFalse(studyMembership.isJoinable(study, userAccount));
 
         study.setPublished(false);
         study.setRecruiting(true);
 
-        assertFalse(study.isJoinable(userAccount));
+        assertFalse(studyMembership.isJoinable(study, userAccount));
+    }
+
+    @DisplayName("로그인하지 않았으면 스터디 가입 버튼을 보여주지 않는다.")
+    @Test
+    void isJoinable_false_for_anonymous() {
+        study.setPublished(true);
+        study.setRecruiting(true);
+
+        assertFalse(studyMembership.isJoinable(study, "anonymousUser"));
     }
 
     @DisplayName("스터디 관리자인지 확인")
     @Test
     void isManager() {
-        study.addManager(account);
-        assertTrue(study.isManager(userAccount));
+        when(studyRepository.existsByIdAndManagersId(10L, 1L)).thenReturn(true);
+
+        assertTrue(studyMembership.isManager(study, userAccount));
+        assertFalse(studyMembership.isMember(study, userAccount));
     }
 
     @DisplayName("스터디 멤버인지 확인")
     @Test
     void isMember() {
-        study.addMember(account);
-        assertTrue(study.isMember(userAccount));
+        when(studyRepository.existsByIdAndMembersId(10L, 1L)).thenReturn(true);
+
+        assertTrue(studyMembership.isMember(study, userAccount));
+        assertFalse(studyMembership.isManager(study, userAccount));
     }
 
+    @DisplayName("같은 요청 안에서는 역할을 한 번만 조회하고 컬렉션은 읽지 않는다")
+    @Test
+    void role_is_resolved_once_per_request() {
+        study.setManagers(null);
+        study.setMembers(null);
+        when(studyRepository.existsByIdAndMembersId(10L, 1L)).thenReturn(true);
+
+        studyMembership.isManager(study, userAccount);
+        studyMembership.isMember(study, userAccount);
+        studyMembership.isJoinable(study, userAccount);
+
+        verify(studyRepository, times(1)).existsByIdAndManagersId(10L, 1L);
+        verify(studyRepository, times(1)).existsByIdAndMembersId(10L, 1L);
+    }
 }
@@ -0,0 +1,163 @@
+package com.project.event;
+
+import com.project.modules.account.repository.AccountRepository;
+import com.project.modules.domain.*;
+import com.project.modules.event.form.EventForm;
+import com.project.modules.event.repository.EnrollmentRepository;
+import com.project.modules.event.repository.EventRepository;
+import com.project.modules.event.service.EnrollmentService;
+import com.project.modules.event.service.EventService;
+import com.project.modules.study.repository.StudyRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class EnrollmentServiceTest {
+
+    @Autowired
+    EnrollmentService enrollmentService;
+    @Autowired
+    EventService eventService;
+    @Autowired
+    ModelMapper modelMapper;
+    @Autowired
+    EnrollmentRepository enrollmentRepository;
+    @Autowired
+    EventRepository eventRepository;
+    @Autowired
+    StudyRepository studyRepository;
+    @Autowired
+    AccountRepository accountRepository;
+
+    Event event;
+    List<Account> accounts = new ArrayList<>();
+
+    @BeforeEach
+    void beforeEach() {
+        for (int i = 0; i < 10; i++) {
+            Account account = new Account();
+            account.setNickname("user" + i);
+            account.setEmail("user" + i + "@email.com");
+            accounts.add(accountRepository.save(account));
+        }
+
+        Study study = new Study();
+        study.setPath("enrollment-test");
+        study.setTitle("enrollment test");
+        studyRepository.save(study);
+
+        Event event = new Event();
+        event.setTitle("FCFS event");
+        event.setStudy(study);
+        event.setCreatedBy(accounts.get(0));
+        event.setEventType(EventType.FCFS);
+        event.setLimitOfEnrollments(2);
+        event.setCreatedDateTime(LocalDateTime.now());
+        event.setEndEnrollmentDateTime(LocalDateTime.now().plusDays(1));
+        event.setStartDateTime(LocalDateTime.now().plusDays(2));
+        event.setEndDateTime(LocalDateTime.now().plusDays(3));
+        this.event = eventRepository.save(event);
+    }
+
+    @AfterEach
+    void afterEach() {
+        enrollmentRepository.deleteAll();
+        eventRepository.deleteAll();
+        studyRepository.deleteAll();
+        accountRepository.deleteAll();
+    }
+
+    @DisplayName("선착순 모임에 동시에 신청해도 정원만큼만 수락")
+    @Test
+    void enroll_concurrently() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(accounts.size());
+        CountDownLatch start = new CountDownLatch(1);
+        for (Account account : accounts) {
+            executorService.execute(() -> {
+                try {
+                    start.await();
+                    enrollmentService.enroll(event.getId(), account);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        start.countDown();
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(30, TimeUnit.SECONDS));
+
+        assertEquals(2, enrollmentRepository.countByEventAndAccepted(event, true));
+        assertEquals(8, enrollmentRepository.countByEventAndAccepted(event, false));
+        Event updated = eventRepository.findById(event.getId()).orElseThrow();
+        assertEquals(2, updated.getAcceptedCount());
+        assertEquals(8, updated.getWaitingCount());
+    }
+
+    @DisplayName("수락된 참가자가 취소하면 첫 번째 대기자를 수락")
+    @Test
+    void disenroll_accepts_next_waiting() {
+        for (Account account : accounts.subList(0, 3)) {
+            enrollmentService.enroll(event.getId(), account);
+        }
+
+        enrollmentService.disenroll(event.getId(), accounts.get(0));
+
+        assertNull(enrollmentRepository.findByEventAndAccount(event, accounts.get(0)));
+        assertTrue(enrollmentRepository.findByEventAndAccount(event, accounts.get(2)).isAccepted());
+        assertEquals(2, enrollmentRepository.countByEventAndAccepted(event, true));
+        assertEquals(0, eventRepository.findById(event.getId()).orElseThrow().getWaitingCount());
+    }
+
+    @DisplayName("모집 인원을 늘리면 늘어난 만큼 대기자를 신청 순서대로 수락")
+    @Test
+    void raise_limit_accepts_waiting_list() {
+        for (Account account : accounts.subList(0, 5)) {
+            enrollmentService.enroll(event.getId(), account);
+        }
+
+        EventForm eventForm = modelMapper.map(event, EventForm.class);
+        eventForm.setLimitOfEnrollments(4);
+        eventService.updateEvent(event, eventForm);
+
+        for (Account account : accounts.subList(0, 4)) {
+            assertTrue(enrollmentRepository.findByEventAndAccount(event, account).isAccepted());
+        }
+        assertFalse(enrollmentRepository.findByEventAndAccount(event, accounts.get(4)).isAccepted());
+        Event updated = eventRepository.findById(event.getId()).orElseThrow();
+        assertEquals(4, updated.getAcceptedCount());
+        assertEquals(1, updated.getWaitingCount());
+    }
+
+    @DisplayName("인원 수를 읽어 둔 오래된 모임을 저장해도 인원 수는 덮어쓰지 않는다")
+    @Test
+    void stale_event_does_not_overwrite_counts() {
+        Event stale = eventRepository.findById(event.getId()).orElseThrow();
+        for (Account account : accounts.subList(0, 3)) {
+            enrollmentService.enroll(event.getId(), account);
+        }
+
+        stale.setTitle("renamed");
+        eventRepository.save(stale);
+
+        Event updated = eventRepository.findById(event.getId()).orElseThrow();
+        assertEquals("renamed", updated.getTitle());
+        assertEquals(2, updated.getAcceptedCount());
+        assertEquals(1, updated.getWaitingCount());
+        assertEquals(3, updated.getEnrollmentSequence());
+    }
+}
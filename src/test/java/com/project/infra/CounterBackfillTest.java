@@ -0,0 +1,115 @@
+package com.project.infra;
+
+import com.project.infra.data.CounterBackfill;
+import com.project.modules.account.repository.AccountRepository;
+import com.project.modules.domain.Account;
+import com.project.modules.domain.Enrollment;
+import com.project.modules.domain.Event;
+import com.project.modules.domain.EventType;
+import com.project.modules.domain.Study;
+import com.project.modules.event.repository.EnrollmentRepository;
+import com.project.modules.event.repository.EventRepository;
+import com.project.modules.study.repository.StudyRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class CounterBackfillTest {
+
+    @Autowired
+    CounterBackfill counterBackfill;
+    @Autowired
+    AccountRepository accountRepository;
+    @Autowired
+    StudyRepository studyRepository;
+    @Autowired
+    EventRepository eventRepository;
+    @Autowired
+    EnrollmentRepository enrollmentRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @DisplayName("컬럼이 생기기 전의 모임 인원 수를 다시 세고 대기자를 신청 순서대로 번호 매긴다")
+    @Test
+    void backfill_enrollments() {
+        List<Account> accounts = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Account account = new Account();
+            account.setNickname("backfill" + i);
+            account.setEmail("backfill" + i + "@email.com");
+            accounts.add(accountRepository.save(account));
+        }
+        Study study = new Study();
+        study.setPath("backfill-test");
+        study.setTitle("backfill test");
+        studyRepository.save(study);
+        Event event = new Event();
+        event.setTitle("FCFS event");
+        event.setStudy(study);
+        event.setCreatedBy(accounts.get(0));
+        event.setEventType(EventType.FCFS);
+        event.setLimitOfEnrollments(1);
+        event.setCreatedDateTime(LocalDateTime.now());
+        event.setEndEnrollmentDateTime(LocalDateTime.now().plusDays(1));
+        event.setStartDateTime(LocalDateTime.now().plusDays(2));
+        event.setEndDateTime(LocalDateTime.now().plusDays(3));
+        eventRepository.save(event);
+
+        LocalDateTime now = LocalDateTime.now();
+        Long first = enroll(event, accounts.get(0), now.minusMinutes(3), true);
+        Long third = enroll(event, accounts.get(1), now.minusMinutes(1), false);
+        Long second = enroll(event, accounts.get(2), now.minusMinutes(2), false);
+
+        counterBackfill.backfill();
+
+        Map<String, Object> counts = jdbcTemplate.queryForMap(
+                "select accepted_count, waiting_count, enrollment_sequence from event where id = ?", event.getId());
+        assertEquals(1, ((Number) counts.get("accepted_count")).intValue());
+        assertEquals(2, ((Number) counts.get("waiting_count")).intValue());
+        assertEquals(3, ((Number) counts.get("enrollment_sequence")).intValue());
+        assertEquals(1, ordinal(first));
+        assertEquals(2, ordinal(second));
+        assertEquals(3, ordinal(third));
+    }
+
+    /** 순번과 인원 수를 쓰기 전의 행처럼 0 으로 남긴다. */
+    private Long enroll(Event event, Account account, LocalDateTime enrolledAt, boolean accepted) {
+        Enrollment enrollment = enrollmentRepository.saveAndFlush(new Enrollment(event, account, enrolledAt, accepted, false));
+        return enrollment.getId();
+    }
+
+    private long ordinal(Long enrollmentId) {
+        return jdbcTemplate.queryForObject("select waitlist_ordinal from enrollment where id = ?", Long.class, enrollmentId);
+    }
+
+    @DisplayName("멤버가 있는데 멤버 수가 0 인 스터디의 멤버 수를 채운다")
+    @Test
+    void backfill_member_counts() {
+        Study study = new Study();
+        study.setPath("member-backfill");
+        study.setTitle("member backfill");
+        Long studyId = studyRepository.saveAndFlush(study).getId();
+        for (int i = 0; i < 2; i++) {
+            Account account = new Account();
+            account.setNickname("member" + i);
+            account.setEmail("member" + i + "@email.com");
+            studyRepository.addMember(studyId, accountRepository.saveAndFlush(account).getId());
+        }
+
+        counterBackfill.backfill();
+
+        assertEquals(2, studyRepository.findMemberCountById(studyId));
+    }
+}
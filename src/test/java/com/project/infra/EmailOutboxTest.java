@@ -0,0 +1,100 @@
+package com.project.infra;
+
+import com.project.infra.mail.EmailMessage;
+import com.project.infra.mail.EmailOutboxWorker;
+import com.project.infra.mail.EmailService;
+import com.project.infra.mail.EmailType;
+import com.project.infra.mail.OutboundEmail;
+import com.project.infra.mail.OutboundEmailRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class EmailOutboxTest {
+
+    @Autowired
+    EmailService emailService;
+    @Autowired
+    EmailOutboxWorker emailOutboxWorker;
+    @Autowired
+    OutboundEmailRepository outboundEmailRepository;
+    @Autowired
+    FakeEmailTransport fakeEmailTransport;
+    @Autowired
+    MeterRegistry meterRegistry;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void afterEach() {
+        outboundEmailRepository.deleteAll();
+        fakeEmailTransport.clear();
+    }
+
+    @DisplayName("outbox 에 쌓인 메일을 한 배치로 전송")
+    @Test
+    void send_in_batch() {
+        for (int i = 0; i < 3; i++) {
+            emailService.send(message("user" + i + "@email.com"));
+        }
+
+        assertEquals(3, emailOutboxWorker.drain());
+
+        assertEquals(3, fakeEmailTransport.getSent().size());
+        assertEquals(3, outboundEmailRepository.countByStatus(OutboundEmail.Status.SENT));
+        assertTrue(meterRegistry.get("mail.delivery").tag("type", "LOGIN_LINK").timer().count() >= 3);
+    }
+
+    @DisplayName("전송에 실패하면 늦춰서 다시 시도하고, 계속 실패하면 DEAD")
+    @Test
+    void retry_with_backoff_then_dead() {
+        fakeEmailTransport.failNext(1);
+        emailService.send(message("fail@email.com"));
+        emailService.send(message("ok@email.com"));
+
+        emailOutboxWorker.drain();
+
+        assertEquals(1, outboundEmailRepository.countByStatus(OutboundEmail.Status.SENT));
+        OutboundEmail failed = outboundEmailRepository.findAll().stream()
+                .filter(outboundEmail -> outboundEmail.getStatus() == OutboundEmail.Status.PENDING)
+                .collect(Collectors.toList()).get(0);
+        assertEquals(1, failed.getAttempts());
+        assertTrue(failed.getNextAttemptAt().isAfter(LocalDateTime.now()));
+        assertEquals(0, emailOutboxWorker.drain());
+
+        double dead = deadCount();
+        for (int attempt = 2; attempt <= 6; attempt++) {
+            // 다음 시도 시각을 지난 것으로 당겨서 워커가 다시 가져가게 한다.
+            jdbcTemplate.update("update outbound_email set next_attempt_at = ? where id = ?",
+                    LocalDateTime.now().minusSeconds(1), failed.getId());
+            fakeEmailTransport.failNext(1);
+            assertEquals(1, emailOutboxWorker.drain());
+        }
+
+        OutboundEmail deadEmail = outboundEmailRepository.findById(failed.getId()).orElseThrow();
+        assertEquals(OutboundEmail.Status.DEAD, deadEmail.getStatus());
+        assertEquals(6, deadEmail.getAttempts());
+        assertEquals(0, emailOutboxWorker.drain());
+        assertEquals(dead + 1, deadCount());
+    }
+
+    private double deadCount() {
+        Counter counter = meterRegistry.find("mail.dead").tag("type", "LOGIN_LINK").counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private EmailMessage message(String to) {
+        return EmailMessage.builder().to(to).subject("subject").message("<p>message</p>").type(EmailType.LOGIN_LINK).build();
+    }
+}
@@ -0,0 +1,48 @@
+package com.project.infra;
+
+import com.project.infra.mail.EmailMessage;
+import com.project.infra.mail.EmailTransport;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** 테스트용 SMTP 대역. 보낸 메일을 메모리에 쌓고, 지정한 횟수만큼 전송 실패를 흉내낸다. */
+@Primary
+@Component
+public class FakeEmailTransport implements EmailTransport {
+
+    private final List<EmailMessage> sent = new CopyOnWriteArrayList<>();
+    private final AtomicInteger failures = new AtomicInteger();
+
+    @Override
+    public Map<EmailMessage, Exception> send(List<EmailMessage> emailMessages) {
+        Map<EmailMessage, Exception> failed = new IdentityHashMap<>();
+        for (EmailMessage emailMessage : emailMessages) {
+            if (failures.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+                failed.put(emailMessage, new IllegalStateException("smtp down"));
+            } else {
+                sent.add(emailMessage);
+            }
+        }
+        return failed;
+    }
+
+    public List<EmailMessage> getSent() {
+        return new ArrayList<>(sent);
+    }
+
+    public void failNext(int count) {
+        failures.set(count);
+    }
+
+    public void clear() {
+        sent.clear();
+        failures.set(0);
+    }
+}
@@ -0,0 +1,156 @@
+package com.project.infra;
+
+import com.project.infra.config.AppProperties;
+import com.project.infra.image.ImageStore;
+import com.project.infra.image.ImageStoreController;
+import com.project.infra.image.ImageVariant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImageStoreTest {
+
+    @TempDir
+    Path imageDir;
+
+    ImageStore imageStore;
+
+    @BeforeEach
+    void beforeEach() {
+        AppProperties appProperties = new AppProperties();
+        appProperties.setImageDir(imageDir.toString());
+        imageStore = new ImageStore(appProperties, new SyncTaskExecutor());
+    }
+
+    @DisplayName("data URL 은 해시 이름의 파일로 저장하고 URL 을 반환")
+    @Test
+    void store_data_url() throws Exception {
+        byte[] bytes = {1, 2, 3, 4};
+        String dataUrl = "data:image/png;base64," + Base64.getEncoder().encodeToString(bytes);
+
+        String url = imageStore.store(dataUrl);
+
+        assertTrue(url.matches("/image-store/[0-9a-f]{64}\\.png"));
+        assertEquals(url, imageStore.store(dataUrl));
+        Path path = imageStore.find(url.substring(ImageStore.URL_PREFIX.length()));
+        assertNotNull(path);
+        assertArrayEquals(bytes, Files.readAllBytes(path));
+    }
+
+    @DisplayName("축소본이 만들어지면 화면에 필요한 크기의 URL 을 반환")
+    @Test
+    void url_of_variant() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(1300, 200, BufferedImage.TYPE_INT_RGB), "png", out);
+        String url = imageStore.store("data:image/png;base64," + Base64.getEncoder().encodeToString(out.toByteArray()));
+
+        String thumbnailUrl = imageStore.url(url, "thumbnail");
+        assertTrue(thumbnailUrl.endsWith("-thumbnail.png"));
+        Path thumbnail = imageStore.find(thumbnailUrl.substring(ImageStore.URL_PREFIX.length()));
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(Files.readAllBytes(thumbnail)));
+        assertEquals(ImageVariant.THUMBNAIL.getMaxWidth(), image.getWidth());
+        assertEquals(10, image.getHeight());
+
+        assertEquals("/images/default-banner.png", imageStore.url("/images/default-banner.png", "banner"));
+    }
+
+    @DisplayName("축소본 작업이 거절되면 다음에 화면에서 찾을 때 원본으로 다시 만든다")
+    @Test
+    void rejected_variants_are_created_on_miss() throws Exception {
+        AppProperties appProperties = new AppProperties();
+        appProperties.setImageDir(imageDir.toString());
+        AtomicBoolean reject = new AtomicBoolean(true);
+        ImageStore store = new ImageStore(appProperties, task -> {
+            if (reject.get()) {
+                throw new TaskRejectedException("queue is full");
+            }
+            task.run();
+        });
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(1300, 200, BufferedImage.TYPE_INT_RGB), "png", out);
+
+        String url = store.store("data:image/png;base64," + Base64.getEncoder().encodeToString(out.toByteArray()));
+        assertEquals(url, store.url(url, "thumbnail"));
+
+        reject.set(false);
+        assertEquals(url, store.url(url, "thumbnail"));
+        assertTrue(store.url(url, "thumbnail").endsWith("-thumbnail.png"));
+        assertTrue(store.url(url, "banner").endsWith("-banner.png"));
+    }
+
+    @DisplayName("비어 있는 값과 이미 저장된 이미지 URL 은 그대로 반환")
+    @Test
+    void store_passes_through_empty_and_stored_values() {
+        assertNull(imageStore.store(null));
+        assertEquals("", imageStore.store(""));
+        String url = imageStore.store("data:image/png;base64," + Base64.getEncoder().encodeToString(new byte[]{1, 2, 3}));
+        assertEquals(url, imageStore.store(url));
+        assertTrue(imageStore.isAcceptable(url));
+    }
+
+    @DisplayName("업로드한 이미지가 아닌 값은 받지 않음")
+    @Test
+    void store_rejects_other_values() {
+        for (String image : new String[]{"/image-store/abc.png", "/image-store/" + "0".repeat(64) + ".png",
+                "https://example.com/a.png", "javascript:alert(1)", "data:text/html;base64,PHA+",
+                "data:image/svg+xml;base64,PHN2Zz4="}) {
+            assertFalse(imageStore.isAcceptable(image), image);
+            assertThrows(IllegalArgumentException.class, () -> imageStore.store(image), image);
+        }
+    }
+
+    @DisplayName("키 형식이 맞지 않으면 찾지 않음")
+    @Test
+    void find_rejects_invalid_key() {
+        assertNull(imageStore.find("../application.yml"));
+        assertNull(imageStore.find("0".repeat(64) + ".png"));
+    }
+
+    @DisplayName("크기 이름은 기본 로케일과 무관하게 찾고, 없는 이름이면 원본 URL 을 반환")
+    @Test
+    void url_with_locale_independent_and_unknown_variant_names() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(100, 100, BufferedImage.TYPE_INT_RGB), "png", out);
+        String url = imageStore.store("data:image/png;base64," + Base64.getEncoder().encodeToString(out.toByteArray()));
+
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            assertTrue(imageStore.url(url, "thumbnail").endsWith("-thumbnail.png"));
+            assertTrue(imageStore.url(url, "THUMBNAIL").endsWith("-thumbnail.png"));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+        assertEquals(url, imageStore.url(url, "huge"));
+        assertEquals(url, imageStore.url(url, null));
+    }
+
+    @DisplayName("없는 크기 이름의 이미지를 요청하면 404")
+    @Test
+    void unknown_variant_is_not_found() throws Exception {
+        String url = imageStore.store("data:image/png;base64," + Base64.getEncoder().encodeToString(new byte[]{1, 2, 3}));
+        String hash = url.substring(ImageStore.URL_PREFIX.length(), ImageStore.URL_PREFIX.length() + 64);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new ImageStoreController(imageStore).image(hash + "-huge.png", new MockHttpServletRequest(), response);
+
+        assertEquals(404, response.getStatus());
+    }
+}
@@ -0,0 +1,62 @@
+package com.project.infra;
+
+import com.project.infra.image.ImageStore;
+import com.project.infra.image.LegacyImageMigration;
+import com.project.modules.account.repository.AccountRepository;
+import com.project.modules.domain.Account;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class LegacyImageMigrationTest {
+
+    @Autowired
+    LegacyImageMigration legacyImageMigration;
+    @Autowired
+    AccountRepository accountRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @DisplayName("data URL 과 large object 에 들어 있던 이미지를 ImageStore 로 옮기고, 그 밖의 값은 비운다")
+    @Test
+    void migrate() {
+        String dataUrl = "data:image/png;base64," + Base64.getEncoder().encodeToString(new byte[]{1, 2, 3});
+        Long inline = save("inline");
+        Long largeObject = save("large-object");
+        Long external = save("external");
+        jdbcTemplate.update("update account set profile_image = ? where id = ?", dataUrl, inline);
+        Long oid = jdbcTemplate.queryForObject("select lo_from_bytea(0, ?)", Long.class,
+                dataUrl.getBytes(StandardCharsets.UTF_8));
+        jdbcTemplate.update("update account set profile_image = ? where id = ?", String.valueOf(oid), largeObject);
+        jdbcTemplate.update("update account set profile_image = ? where id = ?", "https://example.com/a.png", external);
+
+        legacyImageMigration.migrate();
+
+        String inlineUrl = profileImage(inline);
+        assertTrue(inlineUrl.startsWith(ImageStore.URL_PREFIX));
+        assertEquals(inlineUrl, profileImage(largeObject));
+        assertNull(profileImage(external));
+    }
+
+    private Long save(String nickname) {
+        return accountRepository.saveAndFlush(Account.builder()
+                .email(nickname + "@email.com")
+                .password("1234asdf5678")
+                .nickname(nickname)
+                .build()).getId();
+    }
+
+    private String profileImage(Long id) {
+        return jdbcTemplate.queryForObject("select profile_image from account where id = ?", String.class, id);
+    }
+}
@@ -0,0 +1,49 @@
+package com.project.infra;
+
+import com.project.infra.data.ReferenceDataLoader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReferenceDataLoaderTest {
+
+    @TempDir
+    Path dir;
+
+    ReferenceDataLoader referenceDataLoader = new ReferenceDataLoader(null, null, null);
+
+    @DisplayName("file: 위치의 CSV 를 읽고, 파일을 바꾸면 바뀐 내용을 읽는다")
+    @Test
+    void read_file_location() throws Exception {
+        Path csv = dir.resolve("zones.csv");
+        Files.writeString(csv, "\uFEFFAndong,안동시,North Gyeongsang\n", StandardCharsets.UTF_8);
+        Resource resource = new DefaultResourceLoader().getResource("file:" + csv);
+
+        List<String[]> rows = new ArrayList<>();
+        assertEquals(1, referenceDataLoader.read(resource, 3, rows::add));
+        assertEquals("Andong", rows.get(0)[0]);
+
+        Files.writeString(csv, "Andong,안동시,North Gyeongsang\n\nAnsan,안산시,Gyeonggi\n", StandardCharsets.UTF_8);
+        rows.clear();
+        assertEquals(2, referenceDataLoader.read(resource, 3, rows::add));
+        assertEquals("Ansan", rows.get(1)[0]);
+    }
+
+    @DisplayName("열 수가 다른 줄이 있으면 거부")
+    @Test
+    void read_wrong_column_count() {
+        assertThrows(IllegalArgumentException.class,
+                () -> referenceDataLoader.read(new ClassPathResource("zones_kr.csv"), 4, fields -> { }));
+    }
+}
@@ -0,0 +1,57 @@
+package com.project.infra;
+
+import com.project.infra.config.AppProperties;
+import com.project.infra.mail.SimpleLinkMailRenderer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SimpleLinkMailRendererTest {
+
+    TemplateEngine templateEngine;
+    AppProperties appProperties;
+    SimpleLinkMailRenderer simpleLinkMailRenderer;
+
+    @BeforeEach
+    void beforeEach() {
+        ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setSuffix(".html");
+        templateResolver.setTemplateMode(TemplateMode.HTML);
+        templateResolver.setCharacterEncoding("UTF-8");
+        templateEngine = new TemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+
+        appProperties = new AppProperties();
+        appProperties.setHost("http://localhost:8080");
+        simpleLinkMailRenderer = new SimpleLinkMailRenderer(templateEngine, appProperties);
+    }
+
+    @DisplayName("한 번 렌더링한 본문에 이름과 링크만 채운 결과가 템플릿 처리 결과와 같다")
+    @Test
+    void prepared_render_equals_template_process() {
+        SimpleLinkMailRenderer.Prepared prepared = simpleLinkMailRenderer.prepare("스프링 & JPA", "새로운 스터디가 생겼습니다.");
+
+        for (String nickname : new String[]{"keesun", "<script>", "김'기선\""}) {
+            String link = "/check-email-token?token=abc&email=" + nickname + "@email.com";
+            assertEquals(process(nickname, link, "스프링 & JPA", "새로운 스터디가 생겼습니다."),
+                    prepared.render(nickname, link));
+        }
+    }
+
+    private String process(String nickname, String link, String linkName, String message) {
+        Context context = new Context();
+        context.setVariable("nickname", nickname);
+        context.setVariable("link", link);
+        context.setVariable("linkName", linkName);
+        context.setVariable("message", message);
+        context.setVariable("host", appProperties.getHost());
+        return templateEngine.process("mail/simple-link", context);
+    }
+}
@@ -0,0 +1,108 @@
+package com.project.notification;
+
+import com.project.WithAccount;
+import com.project.modules.account.repository.AccountRepository;
+import com.project.modules.domain.Account;
+import com.project.modules.notification.Notification;
+import com.project.modules.notification.NotificationType;
+import com.project.modules.notification.repository.NotificationRepository;
+import com.project.modules.notification.service.NotificationRetentionJob;
+import com.project.modules.notification.service.NotificationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class NotificationControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+    @Autowired
+    AccountRepository accountRepository;
+    @Autowired
+    NotificationRepository notificationRepository;
+    @Autowired
+    NotificationService notificationService;
+    @Autowired
+    NotificationRetentionJob notificationRetentionJob;
+
+    @AfterEach
+    void afterEach() {
+        notificationRepository.deleteAll();
+        accountRepository.deleteAll();
+    }
+
+    @WithAccount("keesun")
+    @DisplayName("읽지 않은 알림 조회 시 한 번에 읽음 처리")
+    @Test
+    void view_new_notifications_marks_them_read() throws Exception {
+        Account keesun = accountRepository.findByNickname("keesun");
+        notificationService.createNotifications(List.of(keesun.getId(), keesun.getId()),
+                "스프링", "/study/spring", "새 스터디", NotificationType.STUDY_CREATED);
+
+        mockMvc.perform(get("/notifications"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("notification/list"))
+                .andExpect(model().attribute("numberOfNotChecked", 2L))
+                .andExpect(model().attribute("hasNotification", false));
+
+        assertEquals(0, notificationRepository.countByAccountIdAndChecked(keesun.getId(), false));
+        assertEquals(2, notificationRepository.countByAccountIdAndChecked(keesun.getId(), true));
+    }
+
+    @WithAccount("keesun")
+    @DisplayName("읽은 알림 삭제")
+    @Test
+    void delete_checked_notifications() throws Exception {
+        Account keesun = accountRepository.findByNickname("keesun");
+        notificationService.createNotifications(List.of(keesun.getId()),
+                "스프링", "/study/spring", "새 스터디", NotificationType.STUDY_CREATED);
+        mockMvc.perform(get("/notifications"));
+
+        mockMvc.perform(delete("/notifications").with(csrf()))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/notifications"));
+
+        assertEquals(0, notificationRepository.count());
+    }
+
+    @WithAccount("keesun")
+    @DisplayName("보관 기간이 지난 읽은 알림만 삭제")
+    @Test
+    void purge_old_checked_notifications() {
+        Account keesun = accountRepository.findByNickname("keesun");
+        notificationRepository.save(notification(keesun, true, LocalDateTime.now().minusDays(40)));
+        notificationRepository.save(notification(keesun, false, LocalDateTime.now().minusDays(40)));
+        notificationRepository.save(notification(keesun, true, LocalDateTime.now()));
+
+        notificationRetentionJob.purge();
+
+        assertEquals(2, notificationRepository.count());
+    }
+
+    private Notification notification(Account account, boolean checked, LocalDateTime createdLocalDateTime) {
+        Notification notification = new Notification();
+        notification.setTitle("title");
+        notification.setLink("/link");
+        notification.setMessage("message");
+        notification.setAccount(account);
+        notification.setChecked(checked);
+        notification.setCreatedLocalDateTime(createdLocalDateTime);
+        notification.setNotificationType(NotificationType.STUDY_CREATED);
+        return notification;
+    }
+}
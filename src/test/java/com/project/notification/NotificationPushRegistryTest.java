@@ -0,0 +1,156 @@
+package com.project.notification;
+
+import com.project.modules.notification.NotificationType;
+import com.project.modules.notification.push.NotificationMessage;
+import com.project.modules.notification.push.NotificationPushRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NotificationPushRegistryTest {
+
+    ManualExecutor executor;
+    NotificationPushRegistry registry;
+
+    @BeforeEach
+    void beforeEach() {
+        executor = new ManualExecutor();
+        registry = new NotificationPushRegistry(executor);
+    }
+
+    @DisplayName("버퍼가 가득 차면 가장 오래된 이벤트부터 버린다")
+    @Test
+    void buffer_overflow_drops_oldest() {
+        RecordingEmitter emitter = new RecordingEmitter();
+        registry.subscribe(1L, emitter);
+        for (int i = 1; i <= 40; i++) {
+            registry.publish(1L, message(i));
+        }
+
+        executor.runAll();
+
+        List<String> titles = emitter.titles();
+        assertEquals(32, titles.size());
+        assertEquals("9", titles.get(0));
+        assertEquals("40", titles.get(31));
+    }
+
+    @DisplayName("계정당 연결 수를 넘으면 가장 오래된 연결을 닫는다")
+    @Test
+    void oldest_connection_is_evicted() {
+        List<RecordingEmitter> emitters = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            RecordingEmitter emitter = new RecordingEmitter();
+            emitters.add(emitter);
+            registry.subscribe(1L, emitter);
+        }
+
+        assertEquals(5, registry.getConnectionCount());
+        assertTrue(emitters.get(0).completed);
+        assertTrue(emitters.subList(1, 6).stream().noneMatch(emitter -> emitter.completed));
+
+        executor.runAll();
+        registry.publish(1L, message(1));
+        executor.runAll();
+        assertTrue(emitters.get(0).titles().isEmpty());
+        assertEquals(List.of("1"), emitters.get(5).titles());
+    }
+
+    @DisplayName("보내는 작업이 거절되어도 연결이 멈추지 않고 다음 알림 때 함께 보낸다")
+    @Test
+    void rejected_drain_does_not_stall_connection() {
+        RecordingEmitter emitter = new RecordingEmitter();
+        executor.reject = true;
+        registry.subscribe(1L, emitter);
+        registry.publish(1L, message(1));
+        assertTrue(executor.tasks.isEmpty());
+
+        executor.reject = false;
+        registry.publish(1L, message(2));
+        executor.runAll();
+
+        assertEquals(List.of("1", "2"), emitter.titles());
+    }
+
+    @DisplayName("heartbeat 는 연결마다가 아니라 묶음마다 작업 하나로 보낸다")
+    @Test
+    void heartbeat_is_sent_in_one_task() {
+        List<RecordingEmitter> emitters = new ArrayList<>();
+        for (long accountId = 1; accountId <= 100; accountId++) {
+            RecordingEmitter emitter = new RecordingEmitter();
+            emitters.add(emitter);
+            registry.subscribe(accountId, emitter);
+        }
+        executor.runAll();
+
+        registry.heartbeat();
+
+        assertEquals(1, executor.tasks.size());
+        executor.runAll();
+        assertTrue(emitters.stream().allMatch(emitter -> emitter.events.size() == 2));
+    }
+
+    private NotificationMessage message(int i) {
+        return new NotificationMessage(String.valueOf(i), "/", "message", NotificationType.STUDY_CREATED, i);
+    }
+
+    static class ManualExecutor implements TaskExecutor {
+
+        final Deque<Runnable> tasks = new ArrayDeque<>();
+        boolean reject;
+
+        @Override
+        public void execute(Runnable task) {
+            if (reject) {
+                throw new TaskRejectedException("queue is full");
+            }
+            tasks.add(task);
+        }
+
+        void runAll() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+    }
+
+    static class RecordingEmitter extends SseEmitter {
+
+        final List<SseEventBuilder> events = new ArrayList<>();
+        boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            events.add(builder);
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+        }
+
+        List<String> titles() {
+            return events.stream()
+                    .flatMap(event -> event.build().stream())
+                    .map(data -> data.getData())
+                    .filter(NotificationMessage.class::isInstance)
+                    .map(data -> ((NotificationMessage) data).getTitle())
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+        }
+    }
+}
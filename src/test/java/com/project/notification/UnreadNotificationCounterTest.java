@@ -0,0 +1,85 @@
+package com.project.notification;
+
+import com.project.modules.notification.service.UnreadNotificationCounter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UnreadNotificationCounterTest {
+
+    /** DB 대신 계정별 읽지 않은 알림 수를 들고 있는 카운터. */
+    static class InMemoryCounter extends UnreadNotificationCounter {
+
+        final Map<Long, Long> unread = new HashMap<>();
+        Runnable duringReconcile = () -> { };
+        int loads;
+
+        InMemoryCounter() {
+            super(null);
+        }
+
+        @Override
+        protected long countUnread(Long accountId) {
+            loads++;
+            return unread.getOrDefault(accountId, 0L);
+        }
+
+        @Override
+        protected Map<Long, Long> countUnread(List<Long> accountIds) {
+            Map<Long, Long> actual = new HashMap<>();
+            accountIds.forEach(accountId -> actual.put(accountId, unread.getOrDefault(accountId, 0L)));
+            duringReconcile.run();
+            return actual;
+        }
+
+        void created(Long accountId) {
+            unread.merge(accountId, 1L, Long::sum);
+            increment(List.of(accountId));
+        }
+    }
+
+    InMemoryCounter counter = new InMemoryCounter();
+
+    @DisplayName("처음 조회할 때만 세고 이후에는 증감으로 유지")
+    @Test
+    void load_once_then_apply_deltas() {
+        counter.unread.put(1L, 3L);
+        assertEquals(3, counter.get(1L));
+
+        counter.created(1L);
+        counter.decrement(1L, 2);
+        assertEquals(2, counter.get(1L));
+        assertEquals(1, counter.loads);
+    }
+
+    @DisplayName("맞추는 도중에 들어온 증감은 사라지지 않는다")
+    @Test
+    void reconcile_keeps_concurrent_delta() {
+        counter.unread.put(1L, 3L);
+        counter.get(1L);
+        // 캐시가 DB 와 어긋나 있던 상태
+        counter.unread.put(1L, 5L);
+        counter.duringReconcile = () -> counter.created(1L);
+
+        counter.reconcile();
+
+        assertEquals(6, counter.get(1L));
+    }
+
+    @DisplayName("그 사이 조회되지 않은 계정은 캐시에서 빼고 다음 조회 때 다시 센다")
+    @Test
+    void reconcile_drops_idle_accounts() {
+        counter.get(1L);
+        counter.reconcile();
+        counter.reconcile();
+
+        counter.unread.put(1L, 4L);
+        assertEquals(4, counter.get(1L));
+        assertEquals(2, counter.loads);
+    }
+}
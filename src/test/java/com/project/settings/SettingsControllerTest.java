@@ -100,6 +100,21 @@ class SettingsControllerTest {
         assertEquals(bio, account.getBio());
     }
 
+    @WithAccount("test")
+    @DisplayName("프로필 수정하기 - 업로드한 이미지가 아닌 프로필 이미지")
+    @Test
+    void updateProfile_with_external_image() throws Exception {
+        mockMvc.perform(post(PROFILE_URL)
+                        .param("profileImage", "https://example.com/a.png")
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(view().name(PROFILE_VIEW_NAME))
+                .andExpect(model().attributeHasFieldErrors("profile", "profileImage"));
+
+        Account account = accountRepository.findByNickname("test");
+        assertNull(account.getProfileImage());
+    }
+
     @WithAccount("test")
     @DisplayName("프로필 수정하기 - 입력값 30글자 초과")
     @Test
@@ -198,7 +213,7 @@ class SettingsControllerTest {
         mockMvc.perform(get(TAGS_URL))
                 .andExpect(view().name(TAGS_VIEW_NAME))
                 .andExpect(model().attributeExists("account"))
-                .andExpect(model().attributeExists("whitelist"))
+                .andExpect(model().attributeExists("whitelistUrl"))
                 .andExpect(model().attributeExists("tags"));
     }
 
@@ -108,5 +108,54 @@ class StudyControllerTest {
                 .andExpect(model().attributeExists("study"));
     }
 
+    @Test
+    @WithAccount("keesun")
+    @DisplayName("스터디 가입 - 멤버 수 증가")
+    void joinStudy() throws Exception {
+        Account whiteship = accountRepository.save(Account.builder()
+                .nickname("whiteship")
+                .email("whiteship@email.com")
+                .password("12345678")
+                .build());
+        Study study = new Study();
+        study.setPath("test-path");
+        study.setTitle("test study");
+        study.setShortDescription("short description");
+        study.setFullDescription("<p>full description</p>");
+        studyService.createNewStudy(study, whiteship);
+
+        mockMvc.perform(get("/study/test-path/join"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/study/test-path"));
+
+        Account keesun = accountRepository.findByNickname("keesun");
+        assertTrue(studyRepository.existsByIdAndMembersId(study.getId(), keesun.getId()));
+        assertEquals(1, studyRepository.findMemberCountById(study.getId()));
+    }
 
+    @Test
+    @WithAccount("keesun")
+    @DisplayName("스터디 탈퇴 - 멤버 수 감소")
+    void leaveStudy() throws Exception {
+        Account whiteship = accountRepository.save(Account.builder()
+                .nickname("whiteship")
+                .email("whiteship@email.com")
+                .password("12345678")
+                .build());
+        Study study = new Study();
+        study.setPath("test-path");
+        study.setTitle("test study");
+        study.setShortDescription("short description");
+        study.setFullDescription("<p>full description</p>");
+        studyService.createNewStudy(study, whiteship);
+        Account keesun = accountRepository.findByNickname("keesun");
+        studyService.addMember(study, keesun);
+
+        mockMvc.perform(get("/study/test-path/leave"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/study/test-path"));
+
+        assertFalse(studyRepository.existsByIdAndMembersId(study.getId(), keesun.getId()));
+        assertEquals(0, studyRepository.findMemberCountById(study.getId()));
+    }
 }
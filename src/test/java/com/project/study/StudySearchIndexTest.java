@@ -0,0 +1,101 @@
+package com.project.study;
+
+import com.project.modules.domain.Study;
+import com.project.modules.domain.Tag;
+import com.project.modules.domain.Zone;
+import com.project.modules.study.search.StudySearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StudySearchIndexTest {
+
+    StudySearchIndex studySearchIndex;
+
+    @BeforeEach
+    void beforeEach() {
+        studySearchIndex = new StudySearchIndex(null);
+    }
+
+    @DisplayName("제목, 태그, 지역의 부분 문자열로 검색")
+    @Test
+    void search_by_partial_keyword() {
+        studySearchIndex.index(study(1L, "스프링 입문", "spring", "Seoul", "서울특별시"));
+        studySearchIndex.index(study(2L, "JPA 스터디", "jpa", "Busan", "부산광역시"));
+
+        assertEquals(List.of(1L), search("프링"));
+        assertEquals(List.of(1L), search("SPR"));
+        assertEquals(List.of(2L), search("부산"));
+        assertEquals(List.of(2L), search("jpa 스터"));
+        assertTrue(search("스프링 부산").isEmpty());
+    }
+
+    @DisplayName("공개되지 않은 스터디는 색인에서 제거")
+    @Test
+    void unpublished_study_is_removed() {
+        Study study = study(1L, "스프링 입문", "spring", "Seoul", "서울특별시");
+        studySearchIndex.index(study);
+        assertEquals(List.of(1L), search("스프링"));
+
+        study.setPublished(false);
+        studySearchIndex.index(study);
+        assertTrue(search("스프링").isEmpty());
+    }
+
+    @DisplayName("공개일 내림차순 정렬과 페이징")
+    @Test
+    void search_sorted_and_paged() {
+        for (long id = 1; id <= 5; id++) {
+            Study study = study(id, "스터디 " + id, "java", "Seoul", "서울특별시");
+            study.setPublishedDateTime(LocalDateTime.now().minusDays(id));
+            studySearchIndex.index(study);
+        }
+
+        Page<Long> page = studySearchIndex.search("스터디",
+                PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "publishedDateTime")));
+        assertEquals(5, page.getTotalElements());
+        assertEquals(List.of(3L, 4L), page.getContent());
+    }
+
+    @DisplayName("정렬 방향을 따른다")
+    @Test
+    void search_follows_sort_direction() {
+        for (long id = 1; id <= 3; id++) {
+            Study study = study(id, "스터디 " + id, "java", "Seoul", "서울특별시");
+            study.setPublishedDateTime(LocalDateTime.now().minusDays(id));
+            study.setMemberCount((int) id);
+            studySearchIndex.index(study);
+        }
+
+        assertEquals(List.of(3L, 2L, 1L), studySearchIndex.search("스터디",
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "publishedDateTime"))).getContent());
+        assertEquals(List.of(1L, 2L, 3L), studySearchIndex.search("스터디",
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "memberCount"))).getContent());
+        assertEquals(List.of(3L, 2L, 1L), studySearchIndex.search("스터디",
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "memberCount"))).getContent());
+    }
+
+    private List<Long> search(String keyword) {
+        return studySearchIndex.search(keyword, PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "publishedDateTime"))).getContent();
+    }
+
+    private Study study(Long id, String title, String tagTitle, String city, String localNameOfCity) {
+        Study study = new Study();
+        study.setId(id);
+        study.setTitle(title);
+        study.setShortDescription(title);
+        study.setPublished(true);
+        study.setPublishedDateTime(LocalDateTime.now());
+        study.getTags().add(Tag.builder().id(id).title(tagTitle).build());
+        study.getZones().add(Zone.builder().id(id).city(city).localNameOfCity(localNameOfCity).province("none").build());
+        return study;
+    }
+}
@@ -2,6 +2,7 @@ package com.project.study;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.project.WithAccount;
+import com.project.infra.image.ImageStore;
 import com.project.modules.account.repository.AccountRepository;
 import com.project.modules.account.service.AccountService;
 import com.project.modules.domain.Account;
@@ -28,6 +29,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.List;
 import java.util.Set;
 
@@ -127,15 +129,30 @@ class StudySettingControllerTest {
     @WithAccount("test")
     @DisplayName("배너 사진 설정")
     void updateBanner() throws Exception {
+        String image = "data:image/png;base64," + Base64.getEncoder().encodeToString(new byte[]{1, 2, 3});
         mockMvc.perform(post(ROOT_PATH + "/banner")
-                        .param("image", "image")
+                        .param("image", image)
                         .with(csrf()))
                 .andExpect(flash().attributeExists("message"))
                 .andExpect(status().is3xxRedirection())
                 .andExpect(redirectedUrl(ROOT_PATH + "/banner"));
 
         Study study = studyRepository.findByPath("test");
-        assertEquals(study.getImage(), "image");
+        assertTrue(study.getImage().startsWith(ImageStore.URL_PREFIX));
+    }
+
+    @Test
+    @WithAccount("test")
+    @DisplayName("배너 사진 설정 - 업로드한 이미지가 아닌 값")
+    void updateBanner_with_external_url() throws Exception {
+        mockMvc.perform(post(ROOT_PATH + "/banner")
+                        .param("image", "javascript:alert(1)")
+                        .with(csrf()))
+                .andExpect(flash().attributeExists("message"))
+                .andExpect(redirectedUrl(ROOT_PATH + "/banner"));
+
+        Study study = studyRepository.findByPath("test");
+        assertFalse(study.getImage().startsWith("javascript:"));
     }
 
     @Test
@@ -173,7 +190,7 @@ class StudySettingControllerTest {
                 .andExpect(model().attributeExists("account"))
                 .andExpect(model().attributeExists("study"))
                 .andExpect(model().attributeExists("tags"))
-                .andExpect(model().attributeExists("whitelist"));
+                .andExpect(model().attributeExists("whitelistUrl"));
     }
 
     @Test
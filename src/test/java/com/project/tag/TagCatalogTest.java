@@ -0,0 +1,102 @@
+package com.project.tag;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.modules.tag.controller.TagController;
+import com.project.modules.tag.repository.TagRepository;
+import com.project.modules.tag.service.TagCatalog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TagCatalogTest {
+
+    ObjectMapper objectMapper = new ObjectMapper();
+    TagCatalog tagCatalog;
+    TagController tagController;
+
+    @BeforeEach
+    void beforeEach() {
+        tagCatalog = new TagCatalog(null, objectMapper);
+        tagController = new TagController(tagCatalog, null);
+    }
+
+    @DisplayName("새 태그는 기존 JSON 에 덧붙이고 버전을 바꾼다")
+    @Test
+    void add_appends_and_changes_version() throws Exception {
+        String version = tagCatalog.getWhitelist().getVersion();
+
+        tagCatalog.add("spring");
+        tagCatalog.add("\"jpa\"");
+
+        TagCatalog.Whitelist whitelist = tagCatalog.getWhitelist();
+        assertNotEquals(version, whitelist.getVersion());
+        assertEquals(List.of("spring", "\"jpa\""), objectMapper.readValue(whitelist.getJson(), List.class));
+        assertEquals(TagCatalog.WHITELIST_URL + whitelist.getVersion(), tagCatalog.getWhitelistUrl());
+    }
+
+    @DisplayName("현재 버전은 오래 캐시하고, ETag 가 같으면 304")
+    @Test
+    void current_version_is_cacheable() {
+        tagCatalog.add("spring");
+        TagCatalog.Whitelist whitelist = tagCatalog.getWhitelist();
+
+        ResponseEntity<byte[]> response = tagController.whitelist(whitelist.getVersion(), null);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("[\"spring\"]", new String(response.getBody(), StandardCharsets.UTF_8));
+        assertTrue(response.getHeaders().getCacheControl().contains("immutable"));
+        assertEquals(whitelist.getEtag(), response.getHeaders().getETag());
+
+        ResponseEntity<byte[]> notModified = tagController.whitelist(whitelist.getVersion(), whitelist.getEtag());
+        assertEquals(HttpStatus.NOT_MODIFIED, notModified.getStatusCode());
+        assertNull(notModified.getBody());
+    }
+
+    @DisplayName("버전은 내용으로 정해지므로 다시 띄운 인스턴스에서도 같다")
+    @Test
+    void version_depends_only_on_content() {
+        TagCatalog other = new TagCatalog(null, objectMapper);
+        tagCatalog.add("spring");
+        tagCatalog.add("jpa");
+        other.add("spring");
+        other.add("jpa");
+
+        assertEquals(tagCatalog.getWhitelist().getVersion(), other.getWhitelist().getVersion());
+        assertEquals(tagCatalog.getWhitelist().getEtag(), other.getWhitelist().getEtag());
+    }
+
+    @DisplayName("지난 버전은 현재 버전 URL 로 보낸다")
+    @Test
+    void stale_version_redirects() {
+        String stale = tagCatalog.getWhitelist().getVersion();
+        tagCatalog.add("spring");
+
+        ResponseEntity<byte[]> response = tagController.whitelist(stale, null);
+        assertEquals(HttpStatus.FOUND, response.getStatusCode());
+        assertEquals(tagCatalog.getWhitelistUrl(), response.getHeaders().getFirst(HttpHeaders.LOCATION));
+    }
+
+    @DisplayName("다시 만들 때 조회 결과에 이미 있는 태그는 덧붙이지 않고, 새 태그는 잃지 않는다")
+    @Test
+    void rebuild_and_add_do_not_lose_or_duplicate_titles() throws Exception {
+        TagRepository tagRepository = mock(TagRepository.class);
+        when(tagRepository.findAllTitles()).thenReturn(List.of("spring", "jpa"));
+        TagCatalog catalog = new TagCatalog(tagRepository, objectMapper);
+
+        catalog.rebuild();
+        catalog.add("jpa");
+        catalog.add("kotlin");
+
+        assertEquals(List.of("spring", "jpa", "kotlin"),
+                objectMapper.readValue(catalog.getWhitelist().getJson(), List.class));
+        assertEquals(3, catalog.getWhitelist().getSize());
+    }
+}
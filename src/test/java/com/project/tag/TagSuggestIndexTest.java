@@ -0,0 +1,76 @@
+package com.project.tag;
+
+import com.project.modules.tag.service.TagSuggestIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TagSuggestIndexTest {
+
+    TagSuggestIndex tagSuggestIndex;
+
+    @BeforeEach
+    void beforeEach() {
+        tagSuggestIndex = new TagSuggestIndex(null);
+        add("spring", 3);
+        add("spring-boot", 5);
+        add("sql", 1);
+        add("스프링", 2);
+        add("스칼라", 4);
+        add("자바", 1);
+        tagSuggestIndex.refresh();
+    }
+
+    @DisplayName("접두사로 찾고 사용 수 내림차순으로 정렬")
+    @Test
+    void suggest_by_prefix_ordered_by_usage() {
+        assertEquals(List.of("spring-boot", "spring", "sql"), tagSuggestIndex.suggest("s", 10));
+        assertEquals(List.of("spring-boot", "spring"), tagSuggestIndex.suggest("SPR", 10));
+        assertEquals(List.of("spring-boot"), tagSuggestIndex.suggest("spr", 1));
+        assertEquals(List.of("스칼라", "스프링"), tagSuggestIndex.suggest("스", 10));
+        assertTrue(tagSuggestIndex.suggest("kotlin", 10).isEmpty());
+    }
+
+    @DisplayName("초성과 초성이 섞인 입력으로 찾기")
+    @Test
+    void suggest_by_chosung() {
+        assertEquals(List.of("스칼라", "스프링"), tagSuggestIndex.suggest("ㅅ", 10));
+        assertEquals(List.of("스프링"), tagSuggestIndex.suggest("ㅅㅍ", 10));
+        assertEquals(List.of("스프링"), tagSuggestIndex.suggest("스ㅍ", 10));
+        assertEquals(List.of("자바"), tagSuggestIndex.suggest("ㅈㅂ", 10));
+        assertTrue(tagSuggestIndex.suggest("ㅅㅂ", 10).isEmpty());
+    }
+
+    @DisplayName("초성이 같은 태그가 노드 후보 수보다 많아도 섞인 입력은 빠짐없이 찾는다")
+    @Test
+    void suggest_mixed_query_beyond_node_candidates() {
+        for (int i = 0; i < 150; i++) {
+            add("사" + (char) ('가' + i), 100);
+        }
+        tagSuggestIndex.refresh();
+
+        assertEquals(List.of("스칼라"), tagSuggestIndex.suggest("스ㅋ", 10));
+        assertEquals(List.of("스프링"), tagSuggestIndex.suggest("스ㅍ", 10));
+        assertEquals(List.of("스프링"), tagSuggestIndex.suggest("ㅅ프", 10));
+        assertEquals(10, tagSuggestIndex.suggest("사ㄱ", 10).size());
+    }
+
+    @DisplayName("사용 수 변경은 refresh 이후에 순위에 반영")
+    @Test
+    void usage_change_reorders_after_refresh() {
+        add("스프링", 5);
+        assertEquals(List.of("스칼라", "스프링"), tagSuggestIndex.suggest("ㅅ", 10));
+
+        tagSuggestIndex.refresh();
+        assertEquals(List.of("스프링", "스칼라"), tagSuggestIndex.suggest("ㅅ", 10));
+    }
+
+    private void add(String title, int usage) {
+        tagSuggestIndex.add(title);
+        tagSuggestIndex.addUsage(title, usage);
+    }
+}
@@ -0,0 +1,103 @@
+package com.project.zone;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.modules.domain.Zone;
+import com.project.modules.zone.repository.ZoneRepository;
+import com.project.infra.data.ReferenceDataLoader;
+import com.project.modules.zone.service.ZoneCatalog;
+import com.project.modules.zone.service.ZoneService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.task.TaskExecutor;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+class ZoneCatalogTest {
+
+    @Autowired
+    ZoneCatalog zoneCatalog;
+    @Autowired
+    ZoneRepository zoneRepository;
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @DisplayName("표시 문자열로 모든 지역을 찾을 수 있다")
+    @Test
+    void findByDisplayName() {
+        List<Zone> zones = zoneRepository.findAll();
+        assertFalse(zones.isEmpty());
+        assertEquals(zones.size(), zoneCatalog.getZones().size());
+
+        for (Zone zone : zones) {
+            Zone found = zoneCatalog.findByDisplayName(zone.toString());
+            assertNotNull(found);
+            assertEquals(zone.getId(), found.getId());
+            assertEquals(zone.getProvince(), found.getProvince());
+        }
+        assertNull(zoneCatalog.findByDisplayName("Nowhere(없는곳)/none"));
+        assertNull(zoneCatalog.findByDisplayName(null));
+    }
+
+    @DisplayName("whitelist 는 전체 지역의 표시 문자열 JSON 배열")
+    @Test
+    void whitelist() throws Exception {
+        String[] whitelist = objectMapper.readValue(zoneCatalog.getWhitelist(), String[].class);
+        assertEquals(zoneRepository.count(), whitelist.length);
+        assertNotNull(zoneCatalog.findByDisplayName(whitelist[0]));
+    }
+
+    @DisplayName("zones_kr.csv 의 모든 행이 시퀀스 id 와 함께 적재된다")
+    @Test
+    void zoneDataLoaded() throws Exception {
+        long lines;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new ClassPathResource("zones_kr.csv").getInputStream(), StandardCharsets.UTF_8))) {
+            lines = reader.lines().filter(line -> !line.isBlank()).count();
+        }
+        assertEquals(lines, zoneRepository.count());
+        assertTrue(zoneRepository.findAll().stream().allMatch(zone -> zone.getId() != null));
+    }
+
+    @DisplayName("지역 테이블이 채워져 있으면 비동기 설정이어도 시작할 때 카탈로그를 바로 채운다")
+    @Test
+    void catalog_loaded_synchronously_when_zones_exist() {
+        ZoneRepository repository = mock(ZoneRepository.class);
+        ZoneCatalog catalog = mock(ZoneCatalog.class);
+        ReferenceDataLoader loader = mock(ReferenceDataLoader.class);
+        TaskExecutor executor = mock(TaskExecutor.class);
+        when(repository.count()).thenReturn(10L);
+
+        new ZoneService(repository, catalog, loader, executor, new ClassPathResource("zones_kr.csv"), true)
+                .onApplicationReady();
+
+        verify(catalog).load();
+        verify(executor, never()).execute(any());
+        verifyNoInteractions(loader);
+    }
+
+    @DisplayName("지역 테이블이 비어 있으면 CSV 적재와 카탈로그 로딩을 별도 스레드로 넘긴다")
+    @Test
+    void csv_import_runs_async_when_zones_empty() {
+        ZoneRepository repository = mock(ZoneRepository.class);
+        ZoneCatalog catalog = mock(ZoneCatalog.class);
+        TaskExecutor executor = mock(TaskExecutor.class);
+        when(repository.count()).thenReturn(0L);
+
+        new ZoneService(repository, catalog, mock(ReferenceDataLoader.class), executor,
+                new ClassPathResource("zones_kr.csv"), true).onApplicationReady();
+
+        verify(executor).execute(any());
+        verify(catalog, never()).load();
+    }
+}
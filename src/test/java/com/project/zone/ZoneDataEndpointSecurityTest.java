@@ -0,0 +1,51 @@
+package com.project.zone;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/** 관리 포트를 따로 열지 않고 같은 MockMvc 로 actuator 보안 설정을 확인한다. */
+@SpringBootTest(properties = {
+        "management.server.port=",
+        "management.health.mail.enabled=false",
+        "app.management.username=admin",
+        "app.management.password={noop}admin-secret"})
+@AutoConfigureMockMvc
+class ZoneDataEndpointSecurityTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @DisplayName("인증 없이 지역 데이터를 다시 읽을 수 없다")
+    @Test
+    void reload_requires_authentication() throws Exception {
+        mockMvc.perform(post("/actuator/zones"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/actuator/zones").with(httpBasic("admin", "wrong")))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @DisplayName("관리자는 CSRF 토큰 없이 HTTP Basic 으로 호출한다")
+    @Test
+    void admin_can_read_and_reload() throws Exception {
+        mockMvc.perform(get("/actuator/zones").with(httpBasic("admin", "admin-secret")))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/actuator/zones").with(httpBasic("admin", "admin-secret")))
+                .andExpect(status().isOk());
+    }
+
+    @DisplayName("health 는 인증 없이 본다")
+    @Test
+    void health_is_public() throws Exception {
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+    }
+}
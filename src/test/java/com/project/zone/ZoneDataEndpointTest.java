@@ -0,0 +1,63 @@
+package com.project.zone;
+
+import com.project.modules.domain.Zone;
+import com.project.modules.zone.endpoint.ZoneDataEndpoint;
+import com.project.modules.zone.repository.ZoneRepository;
+import com.project.modules.zone.service.ZoneCatalog;
+import com.project.modules.zone.service.ZoneService.ReloadResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class ZoneDataEndpointTest {
+
+    @Autowired
+    ZoneDataEndpoint zoneDataEndpoint;
+    @Autowired
+    ZoneRepository zoneRepository;
+    @Autowired
+    ZoneCatalog zoneCatalog;
+
+    @DisplayName("CSV 와 다른 지역은 고치고 빠진 지역은 추가한 뒤 카탈로그를 바꾼다")
+    @Test
+    void reload() {
+        List<Zone> zones = zoneRepository.findAll();
+        Zone renamed = zones.get(0);
+        String localNameOfCity = renamed.getLocalNameOfCity();
+        renamed.setLocalNameOfCity("바뀐이름");
+        zoneRepository.save(renamed);
+        Zone removed = zones.get(1);
+        zoneRepository.delete(removed);
+
+        ReloadResult result = zoneDataEndpoint.reload();
+
+        assertEquals(zones.size(), result.getRows());
+        assertEquals(1, result.getInserted());
+        assertEquals(1, result.getUpdated());
+        assertEquals(zones.size(), zoneRepository.count());
+        assertEquals(localNameOfCity, zoneRepository.findById(renamed.getId()).orElseThrow().getLocalNameOfCity());
+
+        Zone found = zoneCatalog.findByDisplayName(removed.toString());
+        assertNotNull(found);
+        assertNotEquals(removed.getId(), found.getId());
+        assertEquals(renamed.getId(), zoneCatalog.findByDisplayName(
+                Zone.builder().city(renamed.getCity()).localNameOfCity(localNameOfCity).province(renamed.getProvince())
+                        .build().toString()).getId());
+        assertEquals(zones.size(), zoneCatalog.getZones().size());
+    }
+
+    @DisplayName("CSV 와 같으면 바꾸지 않는다")
+    @Test
+    void reload_without_changes() {
+        ReloadResult result = zoneDataEndpoint.reload();
+
+        assertEquals(0, result.getInserted());
+        assertEquals(0, result.getUpdated());
+    }
+}